@@ -0,0 +1,56 @@
+package com.hunnit_beasts.thread.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 클라이언트 설정 (api.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "api")
+public class ApiClientProperties {
+    private String baseUrl = "https://jsonplaceholder.typicode.com";
+    private long connectTimeoutMs = 5000;
+    // WebClient가 응답 본문을 한 번에 메모리에 모을 수 있는 최대 크기 (bodyToMono(List) 등)
+    private int maxInMemorySizeMb = 64;
+    // WebClient 연결 풀 최대 연결 수 - HTTP/1.1은 연결 하나에 요청 하나, h2c는 연결 하나에 여러 스트림
+    private int http1MaxConnections = 500;
+    private int h2cMaxConnections = 8;
+    private Cache cache = new Cache();
+    private Resilience resilience = new Resilience();
+    private Limits limits = new Limits();
+
+    /**
+     * 응답 캐시 설정 (api.cache.*)
+     */
+    @Data
+    public static class Cache {
+        private int maxSize = 1000;
+        private long ttlMs = 60_000;
+    }
+
+    /**
+     * 재시도/회로 차단 설정 (api.resilience.*)
+     */
+    @Data
+    public static class Resilience {
+        private int maxAttempts = 3;
+        private long baseDelayMs = 20;
+        private long maxDelayMs = 500;
+        private int windowSize = 50;
+        private int minimumCalls = 20;
+        private double failureRatePercent = 50;
+        private long openDurationMs = 2000;
+        private int halfOpenTrials = 5;
+    }
+
+    /**
+     * 외부 호출 동시성/속도 제한 설정 (api.limits.*) - 0이면 제한 없음
+     */
+    @Data
+    public static class Limits {
+        private int maxConcurrency = 100;
+        private int ratePerSecond = 0;
+        private int burst = 50;
+    }
+}
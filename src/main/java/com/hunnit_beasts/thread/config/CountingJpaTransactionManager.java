@@ -0,0 +1,30 @@
+package com.hunnit_beasts.thread.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋 횟수를 세는 JPA 트랜잭션 매니저
+ * 리포지토리 메서드를 트랜잭션 밖에서 호출하면 호출마다 자체 트랜잭션을 커밋하므로 그 횟수도 포함됨
+ */
+public class CountingJpaTransactionManager extends JpaTransactionManager {
+
+    private final LongAdder commits = new LongAdder();
+
+    public CountingJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        super.doCommit(status);
+        commits.increment();
+    }
+
+    public long commits() {
+        return commits.sum();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.util.PoolMetricsTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceMetricsConfig {
+
+    @Bean
+    public PoolMetricsTracker poolMetricsTracker() {
+        return new PoolMetricsTracker();
+    }
+
+    /**
+     * 풀이 시작되기 전(첫 연결 전)에 Hikari 지표 수집기 연결
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<PoolMetricsTracker> poolMetricsTracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+                    PoolMetricsTracker tracker = poolMetricsTracker.getObject();
+                    dataSource.setMetricsTrackerFactory((poolName, poolStats) -> tracker);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.util.DbLatency;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2에 지연 주입 함수(INJECT_LATENCY)를 등록
+ * H2에는 SLEEP 함수가 없으므로 Java 정적 메서드를 함수 별칭으로 연결
+ */
+@Configuration
+@EnableConfigurationProperties(DbLatencyProperties.class)
+@Slf4j
+@RequiredArgsConstructor
+public class DbLatencyConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DbLatencyProperties properties;
+
+    @PostConstruct
+    public void registerLatencyFunction() {
+        DbLatency.configure(properties.isEnabled(), properties.getQueries());
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS " + DbLatency.FUNCTION_NAME
+                + " FOR \"" + DbLatency.class.getName() + ".inject\"");
+        log.info("DB 지연 주입 함수 등록 완료 (활성화: {}, 쿼리별 분포: {})",
+                properties.isEnabled(), properties.getQueries().keySet());
+    }
+}
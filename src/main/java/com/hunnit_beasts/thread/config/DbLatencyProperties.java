@@ -0,0 +1,19 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.util.LatencyDistribution;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DB 지연 주입 설정 (db.latency.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "db.latency")
+public class DbLatencyProperties {
+    private boolean enabled = true;
+    // 쿼리 이름(예: user.findById)별 지연 분포
+    private Map<String, LatencyDistribution> queries = new LinkedHashMap<>();
+}
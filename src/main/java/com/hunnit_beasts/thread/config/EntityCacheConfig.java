@@ -0,0 +1,26 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.util.TtlLruCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자/상품 id별 읽기 캐시 (TTL + LRU)
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfig {
+
+    @Bean
+    public TtlLruCache<Long, User> userCache(EntityCacheProperties properties) {
+        return new TtlLruCache<>(properties.getMaxSize(), properties.getTtlMs());
+    }
+
+    @Bean
+    public TtlLruCache<Long, Product> productCache(EntityCacheProperties properties) {
+        return new TtlLruCache<>(properties.getMaxSize(), properties.getTtlMs());
+    }
+}
@@ -0,0 +1,16 @@
+package com.hunnit_beasts.thread.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 엔티티 조회 캐시 설정 (db.cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "db.cache")
+public class EntityCacheProperties {
+    // 엔티티 종류별 최대 항목 수
+    private int maxSize = 10_000;
+    // 쓰기 무효화를 놓친 경우(벌크 쿼리 등)를 위한 만료 시간, 0이면 만료 없음
+    private long ttlMs = 60_000;
+}
@@ -0,0 +1,31 @@
+package com.hunnit_beasts.thread.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * JDBC DataSource(Hikari) 직접 등록
+ * R2DBC ConnectionFactory가 있으면 DataSourceAutoConfiguration이 물러나 JdbcTemplate/JPA까지 빠지므로
+ * spring.datasource.* 설정으로 같은 Hikari 풀을 만들어 둠
+ */
+@Configuration
+public class JdbcDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
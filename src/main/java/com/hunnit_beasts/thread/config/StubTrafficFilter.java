@@ -0,0 +1,38 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.service.StubApiService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 로컬 스텁 게시글 API 요청의 연결/프로토콜/동시 처리 수 집계
+ */
+@Component
+@RequiredArgsConstructor
+public class StubTrafficFilter extends OncePerRequestFilter {
+
+    private final StubApiService stubApiService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/stub/posts");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        stubApiService.recordRequestStart(request.getRemoteAddr() + ":" + request.getRemotePort(), request.getProtocol());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stubApiService.recordRequestEnd();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hunnit_beasts.thread.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * JPA/R2DBC 트랜잭션 매니저 공존 설정
+ * R2DBC 스타터가 ReactiveTransactionManager를 함께 등록하므로, @Transactional이 기본으로 쓰는
+ * 트랜잭션 매니저를 JPA로 고정 (리액티브 경로는 트랜잭션 없이 DatabaseClient만 사용)
+ * 워크플로우 DB 단계의 커밋 횟수를 보고하기 위해 커밋을 세는 매니저를 사용
+ */
+@Configuration
+public class TransactionManagerConfig {
+
+    @Bean
+    @Primary
+    public CountingJpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new CountingJpaTransactionManager(entityManagerFactory);
+    }
+}
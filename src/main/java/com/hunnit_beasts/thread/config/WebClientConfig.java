@@ -1,14 +1,123 @@
 package com.hunnit_beasts.thread.config;
 
+import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.util.CircuitBreaker;
+import com.hunnit_beasts.thread.util.RetryPolicy;
+import com.hunnit_beasts.thread.util.TtlLruCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
+@EnableConfigurationProperties(ApiClientProperties.class)
 public class WebClientConfig {
 
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
-}
\ No newline at end of file
+
+    /**
+     * API 호출에 공유되는 WebClient (호출마다 build() 하지 않음)
+     * HTTP/1.1 연결 풀 - 풀이 가득 차면 대기열에서 기다림 (대기열 크기 제한 없음)
+     */
+    @Bean
+    public WebClient apiWebClient(WebClient.Builder webClientBuilder, ApiClientProperties properties) {
+        ConnectionProvider provider = ConnectionProvider.builder("api-http1")
+                .maxConnections(properties.getHttp1MaxConnections())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return buildApiWebClient(webClientBuilder, properties,
+                reactor.netty.http.client.HttpClient.create(provider)
+                        .protocol(HttpProtocol.HTTP11));
+    }
+
+    /**
+     * 평문 HTTP/2(h2c, prior knowledge) WebClient - 적은 연결 위에 요청을 스트림으로 다중화
+     */
+    @Bean
+    public WebClient apiH2cWebClient(WebClient.Builder webClientBuilder, ApiClientProperties properties) {
+        ConnectionProvider provider = ConnectionProvider.builder("api-h2c")
+                .maxConnections(properties.getH2cMaxConnections())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return buildApiWebClient(webClientBuilder, properties,
+                reactor.netty.http.client.HttpClient.create(provider)
+                        .protocol(HttpProtocol.H2C));
+    }
+
+    /**
+     * API 호출에 공유되는 JDK HttpClient - 응답 처리도 가상 스레드에서 수행
+     */
+    @Bean
+    public HttpClient apiHttpClient(ApiClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * HTTP/2 JDK HttpClient - 평문 URL에서는 첫 요청에서 h2c로 업그레이드한 뒤 연결을 다중화
+     */
+    @Bean
+    public HttpClient apiH2cHttpClient(ApiClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 게시글 id별 API 응답 캐시 (TTL + LRU)
+     */
+    @Bean
+    public TtlLruCache<Integer, ApiResponse> apiResponseCache(ApiClientProperties properties) {
+        return new TtlLruCache<>(properties.getCache().getMaxSize(), properties.getCache().getTtlMs());
+    }
+
+    /**
+     * 게시글 API 회로 차단기
+     */
+    @Bean
+    public CircuitBreaker apiCircuitBreaker(ApiClientProperties properties) {
+        ApiClientProperties.Resilience resilience = properties.getResilience();
+        return new CircuitBreaker("posts-api",
+                resilience.getWindowSize(),
+                resilience.getMinimumCalls(),
+                resilience.getFailureRatePercent(),
+                Duration.ofMillis(resilience.getOpenDurationMs()),
+                resilience.getHalfOpenTrials());
+    }
+
+    /**
+     * 게시글 API 재시도 정책
+     */
+    @Bean
+    public RetryPolicy apiRetryPolicy(ApiClientProperties properties) {
+        ApiClientProperties.Resilience resilience = properties.getResilience();
+        return new RetryPolicy(resilience.getMaxAttempts(),
+                Duration.ofMillis(resilience.getBaseDelayMs()),
+                Duration.ofMillis(resilience.getMaxDelayMs()));
+    }
+
+    private WebClient buildApiWebClient(WebClient.Builder webClientBuilder, ApiClientProperties properties,
+                                        reactor.netty.http.client.HttpClient httpClient) {
+        return webClientBuilder.clone()
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize(properties.getMaxInMemorySizeMb() * 1024 * 1024))
+                .build();
+    }
+}
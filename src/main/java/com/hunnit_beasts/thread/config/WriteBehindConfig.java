@@ -0,0 +1,47 @@
+package com.hunnit_beasts.thread.config;
+
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.MicroBatcher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 사용자/상품 지연 쓰기 배처 - 여러 요청의 저장을 모아 배치 하나를 트랜잭션 하나로 커밋
+ * 각 저장 요청의 future는 배치가 커밋된 뒤 id가 채워진 엔티티로 완료 (배치 실패 시 모두 실패)
+ * 빈 종료 시 close()가 남은 엔티티를 모두 저장
+ */
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    @Bean
+    public MicroBatcher<User, User> userWriteBehind(WriteBehindProperties properties,
+                                                   UserRepository userRepository,
+                                                   TransactionTemplate transactionTemplate) {
+        return new MicroBatcher<>("user-write-behind",
+                properties.getBatchSize(),
+                Duration.ofMillis(properties.getLingerMs()),
+                properties.getQueueCapacity(),
+                properties.getMaxConcurrentFlushes(),
+                users -> transactionTemplate.execute(status -> userRepository.saveAll(users)));
+    }
+
+    @Bean
+    public MicroBatcher<Product, Product> productWriteBehind(WriteBehindProperties properties,
+                                                            ProductRepository productRepository,
+                                                            TransactionTemplate transactionTemplate) {
+        return new MicroBatcher<>("product-write-behind",
+                properties.getBatchSize(),
+                Duration.ofMillis(properties.getLingerMs()),
+                properties.getQueueCapacity(),
+                properties.getMaxConcurrentFlushes(),
+                products -> transactionTemplate.execute(status -> productRepository.saveAll(products)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.hunnit_beasts.thread.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 엔티티 지연 쓰기(write-behind) 설정 (db.write-behind.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "db.write-behind")
+public class WriteBehindProperties {
+    // 한 트랜잭션에 모아 저장할 최대 엔티티 수 (hibernate.jdbc.batch_size와 맞춤)
+    private int batchSize = 500;
+    // 첫 엔티티 이후 배치를 채우기 위해 기다리는 최대 시간
+    private long lingerMs = 10;
+    // 대기 중인 엔티티 상한 - 가득 차면 저장 요청이 대기 (배압)
+    private int queueCapacity = 10_000;
+    // 동시에 커밋하는 배치 수
+    private int maxConcurrentFlushes = 2;
+}
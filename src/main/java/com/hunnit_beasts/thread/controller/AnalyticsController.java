@@ -0,0 +1,54 @@
+package com.hunnit_beasts.thread.controller;
+
+import com.hunnit_beasts.thread.model.AnalyticsEngine;
+import com.hunnit_beasts.thread.model.SeedMode;
+import com.hunnit_beasts.thread.service.DataSeedService;
+import com.hunnit_beasts.thread.service.ProductAnalyticsService;
+import com.hunnit_beasts.thread.util.PriceAnalytics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+@Slf4j
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final ProductAnalyticsService productAnalyticsService;
+    private final DataSeedService dataSeedService;
+
+    // 히스토그램은 구간 수만큼 배열을 잡으므로 요청 값 그대로 쓰지 않음
+    private static final int MAX_BUCKETS = 1_000;
+
+    @GetMapping("/prices")
+    public PriceAnalytics analyzePrices(
+            @RequestParam(defaultValue = "COLUMNAR") AnalyticsEngine engine,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int buckets) {
+        log.info("상품 가격 통계 요청 수신, 방식: {}, 접두사: '{}', 구간 수: {}", engine, prefix, buckets);
+        return productAnalyticsService.analyze(engine, prefix, clampBuckets(buckets));
+    }
+
+    @GetMapping("/prices/compare")
+    public List<PriceAnalytics> comparePriceEngines(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int buckets,
+            @RequestParam(defaultValue = "0") long rows) {
+        log.info("상품 가격 통계 방식 비교 중, 접두사: '{}', 적재: {}", prefix, rows);
+        if (rows > 0) {
+            // 기존 데이터를 비우고 상품만 네이티브 방식으로 적재 (1M~10M건 규모)
+            dataSeedService.seed(SeedMode.NATIVE, 0, rows, 4, true);
+        }
+        return productAnalyticsService.compare(prefix, clampBuckets(buckets));
+    }
+
+    private static int clampBuckets(int buckets) {
+        return Math.min(MAX_BUCKETS, Math.max(1, buckets));
+    }
+}
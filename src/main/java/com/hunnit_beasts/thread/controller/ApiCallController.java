@@ -1,16 +1,26 @@
 package com.hunnit_beasts.thread.controller;
 
+import com.hunnit_beasts.thread.model.ApiBackend;
+import com.hunnit_beasts.thread.model.ApiCallOptions;
+import com.hunnit_beasts.thread.model.ApiProtocol;
 import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.ListDecodeMode;
+import com.hunnit_beasts.thread.model.PostListSummary;
 import com.hunnit_beasts.thread.service.ApiCallService;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.CacheStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.HedgeStats;
+import com.hunnit_beasts.thread.util.OutboundLimitStats;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.ScenarioStats;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -22,31 +32,37 @@ public class ApiCallController {
     private final ApiCallService apiCallService;
 
     @GetMapping("/single")
-    public ApiResponse singleApiCall() {
-        log.info("단일 API 호출 요청 처리 중");
-        return apiCallService.callSingleApi(1);
+    public ApiResponse singleApiCall(ApiCallOptions options) {
+        log.info("단일 API 호출 요청 처리 중, 옵션: {}", options);
+        return apiCallService.callSingleApi(1, options);
     }
 
     @GetMapping("/multiple")
     public List<ExecutionResult<ApiResponse>> multipleApiCalls(
-            @RequestParam(defaultValue = "10") int count) {
-        log.info("다중 API 호출 요청 처리 중, 개수: {}", count);
-        return apiCallService.callMultipleApisWithVirtualThread(count);
+            @RequestParam(defaultValue = "10") int count,
+            ApiCallOptions options) {
+        log.info("다중 API 호출 요청 처리 중, 개수: {}, 옵션: {}", count, options);
+        return apiCallService.callMultipleApisWithVirtualThread(count, options);
     }
 
     @GetMapping("/compare")
     public ComparisonResult<ApiResponse> compareApiCalls(
-            @RequestParam(defaultValue = "50") int count) {
-        log.info("API 호출 성능 비교 중, 개수: {}", count);
+            @RequestParam(defaultValue = "50") int count,
+            ApiCallOptions options) {
+        log.info("API 호출 성능 비교 중, 개수: {}, 옵션: {}", count, options);
+        SingleFlightStats coalescingBefore = apiCallService.getCoalescingStats();
+        HedgeStats hedgeBefore = apiCallService.getHedgeStats();
+        ResilienceStats resilienceBefore = apiCallService.getResilienceStats();
+        OutboundLimitStats limitBefore = options.isLimited() ? apiCallService.getLimitStats(options) : null;
 
         long startTimeVirtual = System.currentTimeMillis();
         List<ExecutionResult<ApiResponse>> virtualResults =
-                apiCallService.callMultipleApisWithVirtualThread(count);
+                apiCallService.callMultipleApisWithVirtualThread(count, options);
         long totalTimeVirtual = System.currentTimeMillis() - startTimeVirtual;
 
         long startTimePlatform = System.currentTimeMillis();
         List<ExecutionResult<ApiResponse>> platformResults =
-                apiCallService.callMultipleApisWithPlatformThread(count);
+                apiCallService.callMultipleApisWithPlatformThread(count, options);
         long totalTimePlatform = System.currentTimeMillis() - startTimePlatform;
 
         ComparisonResult<ApiResponse> result = new ComparisonResult<>("API 호출 비교", count);
@@ -55,7 +71,294 @@ public class ApiCallController {
         result.setVirtualThreadTotalTimeMs(totalTimeVirtual);
         result.setPlatformThreadTotalTimeMs(totalTimePlatform);
         result.calculateSpeedup();
+        if (options.isCache()) {
+            result.addMetric("cache", apiCallService.getCacheStats());
+        }
+        if (options.isCoalesce()) {
+            result.addMetric("coalescing", apiCallService.getCoalescingStats().since(coalescingBefore));
+        }
+        if (options.isHedge() || options.getTimeoutMs() > 0) {
+            result.addMetric("hedging", apiCallService.getHedgeStats().since(hedgeBefore));
+        }
+        if (options.isResilient()) {
+            result.addMetric("resilience", apiCallService.getResilienceStats().since(resilienceBefore));
+        }
+        if (limitBefore != null) {
+            result.addMetric("limits", apiCallService.getLimitStats(options).since(limitBefore));
+        }
 
         return result;
     }
+
+    @GetMapping("/cache/stats")
+    public CacheStats cacheStats() {
+        return apiCallService.getCacheStats();
+    }
+
+    @DeleteMapping("/cache")
+    public String clearCache() {
+        log.info("API 응답 캐시 초기화 요청");
+        apiCallService.clearCache();
+        return "API 응답 캐시를 비웠습니다.";
+    }
+
+    @GetMapping("/coalescing/stats")
+    public SingleFlightStats coalescingStats() {
+        return apiCallService.getCoalescingStats();
+    }
+
+    @GetMapping("/compare-coalescing")
+    public List<ScenarioStats> compareApiCoalescing(
+            @RequestParam(defaultValue = "20") int count,
+            @RequestParam(defaultValue = "10") int duplicates,
+            ApiCallOptions options) {
+        log.info("API 동시 호출 병합 비교 중, 개수: {}, 중복: {}", count, duplicates);
+
+        // 같은 id를 동시에 여러 번 요청하는 버스트를 병합 없이/병합해서 실행
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean coalesce : new boolean[]{false, true}) {
+            options.setCoalesce(coalesce);
+            SingleFlightStats before = apiCallService.getCoalescingStats();
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callBurstWithVirtualThread(count, duplicates, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    coalesce ? "API 버스트 - 호출 병합" : "API 버스트 - 병합 없음", results, totalTime);
+            if (coalesce) {
+                scenarioStats.addMetric("coalescing", apiCallService.getCoalescingStats().since(before));
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-batching")
+    public List<ScenarioStats> compareApiBatching(
+            @RequestParam(defaultValue = "200") int count,
+            ApiCallOptions options) {
+        log.info("API 배칭 비교 중, 개수: {}, 배치 크기: {}, 대기: {}ms",
+                count, options.getBatchSize(), options.getLingerMs());
+
+        // 같은 호출을 개별 요청과 배치 다건 조회로 각각 실행
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean batch : new boolean[]{false, true}) {
+            options.setBatch(batch);
+            BatchStats before = batch ? apiCallService.getBatchStats(options) : null;
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callMultipleApisWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    batch ? "API 호출 - 배치 다건 조회" : "API 호출 - 개별 요청", results, totalTime);
+            if (before != null) {
+                scenarioStats.addMetric("batching", apiCallService.getBatchStats(options).since(before));
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/hedging/stats")
+    public HedgeStats hedgingStats() {
+        return apiCallService.getHedgeStats();
+    }
+
+    @GetMapping("/compare-hedging")
+    public List<ScenarioStats> compareApiHedging(
+            @RequestParam(defaultValue = "200") int count,
+            ApiCallOptions options) {
+        log.info("API 헤지 요청 비교 중, 개수: {}, 기한: {}ms, 헤지 지연: {}ms",
+                count, options.getTimeoutMs(), options.getHedgeDelayMs());
+
+        // 같은 호출을 헤지 없이/헤지해서 실행 (헤지 없는 실행이 p95 표본도 채움)
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean hedge : new boolean[]{false, true}) {
+            options.setHedge(hedge);
+            HedgeStats before = apiCallService.getHedgeStats();
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callMultipleApisWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    hedge ? "API 호출 - 헤지 요청" : "API 호출 - 헤지 없음", results, totalTime);
+            scenarioStats.addMetric("hedging", apiCallService.getHedgeStats().since(before));
+            if (hedge) {
+                scenarioStats.addMetric("p99ImprovementMs",
+                        stats.get(0).getP99LatencyMs() - scenarioStats.getP99LatencyMs());
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/resilience/stats")
+    public ResilienceStats resilienceStats() {
+        return apiCallService.getResilienceStats();
+    }
+
+    @GetMapping("/compare-resilience")
+    public List<ScenarioStats> compareApiResilience(
+            @RequestParam(defaultValue = "200") int count,
+            ApiCallOptions options) {
+        log.info("API 재시도/회로 차단 비교 중, 개수: {}, 옵션: {}", count, options);
+
+        // 같은 호출을 보호 없이/재시도 + 회로 차단으로 실행해 goodput과 실패한 업스트림 요청 수 비교
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean resilient : new boolean[]{false, true}) {
+            options.setResilient(resilient);
+            ResilienceStats before = apiCallService.getResilienceStats();
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callMultipleApisWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    resilient ? "API 호출 - 재시도 + 회로 차단" : "API 호출 - 보호 없음", results, totalTime);
+            scenarioStats.addMetric("resilience", apiCallService.getResilienceStats().since(before));
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-limits")
+    public List<ScenarioStats> compareApiLimits(
+            @RequestParam(defaultValue = "1000") int count,
+            ApiCallOptions options) {
+        log.info("API 벌크헤드/속도 제한 비교 중, 개수: {}, 동시성 한도: {}, 초당 허가: {}",
+                count, options.getMaxConcurrency(), options.getRatePerSecond());
+
+        // 같은 대량 팬아웃을 제한 없이/벌크헤드 + 속도 제한으로 실행
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean limited : new boolean[]{false, true}) {
+            options.setLimited(limited);
+            OutboundLimitStats before = limited ? apiCallService.getLimitStats(options) : null;
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callMultipleApisWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    limited ? "API 팬아웃 - 벌크헤드 + 속도 제한" : "API 팬아웃 - 제한 없음", results, totalTime);
+            if (before != null) {
+                scenarioStats.addMetric("limits", apiCallService.getLimitStats(options).since(before));
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-protocols")
+    public List<ScenarioStats> compareApiProtocols(
+            @RequestParam(defaultValue = "2000") int count) {
+        log.info("API 프로토콜(HTTP/1.1 vs h2c) 비교 중, 개수: {}", count);
+
+        // 백엔드마다 HTTP/1.1 연결 풀과 h2c 다중화를 같은 동시 호출 수로 실행하고 업스트림 연결 수를 비교
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (ApiBackend backend : ApiBackend.values()) {
+            for (ApiProtocol protocol : ApiProtocol.values()) {
+                ApiCallOptions options = new ApiCallOptions();
+                options.setBackend(backend);
+                options.setProtocol(protocol);
+                // 첫 요청으로 연결(및 h2c 업그레이드)을 맺어 둔 뒤 통계 초기화
+                apiCallService.callSingleApi(1, options);
+                apiCallService.resetUpstreamTrafficStats();
+
+                long startTime = System.currentTimeMillis();
+                List<ExecutionResult<ApiResponse>> results =
+                        apiCallService.callMultipleApisWithVirtualThread(count, options);
+                long totalTime = System.currentTimeMillis() - startTime;
+
+                ScenarioStats scenarioStats = ScenarioStats.of(
+                        "API 프로토콜 비교 - " + backend + " / " + protocol, results, totalTime);
+                scenarioStats.addMetric("upstream", apiCallService.getUpstreamTrafficStats());
+                stats.add(scenarioStats);
+            }
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-list-decode")
+    public List<ScenarioStats> compareListDecode(
+            @RequestParam(defaultValue = "100000") int limit) {
+        log.info("대용량 목록 디코딩 비교 중, 게시글 수: {}", limit);
+
+        // 같은 목록을 디코딩 방식만 바꿔 순서대로 처리 (동시에 실행하면 힙 최대치가 섞임)
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (ListDecodeMode mode : ListDecodeMode.values()) {
+            long startTime = System.currentTimeMillis();
+            ExecutionResult<PostListSummary> result = apiCallService.fetchPostList(limit, mode);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of("대용량 목록 디코딩 - " + mode, List.of(result), totalTime);
+            PostListSummary summary = result.getResult();
+            if (summary != null) {
+                scenarioStats.addMetric("items", summary.getCount());
+                scenarioStats.addMetric("itemsPerSec", totalTime > 0 ? summary.getCount() * 1000.0 / totalTime : 0.0);
+                scenarioStats.addMetric("peakHeapUsedMb", summary.getPeakHeapUsedMb());
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-cache")
+    public List<ScenarioStats> compareApiCache(
+            @RequestParam(defaultValue = "50") int count,
+            @RequestParam(defaultValue = "3") int rounds,
+            ApiCallOptions options) {
+        log.info("API 캐시 사용/미사용 비교 중, 개수: {}, 반복: {}", count, rounds);
+
+        // 같은 id 1..count를 rounds번 반복 조회 (반복 트래픽 재현)
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean cached : new boolean[]{false, true}) {
+            options.setCache(cached);
+            apiCallService.clearCache();
+
+            List<ExecutionResult<ApiResponse>> results = new ArrayList<>();
+            long startTime = System.currentTimeMillis();
+            for (int round = 0; round < rounds; round++) {
+                results.addAll(apiCallService.callMultipleApisWithVirtualThread(count, options));
+            }
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    cached ? "API 호출 - 캐시 사용" : "API 호출 - 캐시 미사용", results, totalTime);
+            if (cached) {
+                scenarioStats.addMetric("cache", apiCallService.getCacheStats());
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-backends")
+    public List<ScenarioStats> compareApiBackends(
+            @RequestParam(defaultValue = "50") int count) {
+        log.info("API 백엔드 성능 비교 중, 개수: {}", count);
+
+        // 같은 가상 스레드 조건에서 백엔드만 바꿔 순서대로 실행
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (ApiBackend backend : ApiBackend.values()) {
+            ApiCallOptions options = new ApiCallOptions();
+            options.setBackend(backend);
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<ApiResponse>> results =
+                    apiCallService.callMultipleApisWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            stats.add(ScenarioStats.of("API 백엔드 비교 - " + backend, results, totalTime));
+            log.info("API 백엔드 {} 결과 - {}ms", backend, totalTime);
+        }
+        return stats;
+    }
 }
\ No newline at end of file
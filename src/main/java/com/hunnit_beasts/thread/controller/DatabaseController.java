@@ -1,13 +1,47 @@
 package com.hunnit_beasts.thread.controller;
 
+import com.hunnit_beasts.thread.model.DbQueryMode;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
+import com.hunnit_beasts.thread.model.ExportFormat;
+import com.hunnit_beasts.thread.model.ExportTable;
+import com.hunnit_beasts.thread.model.SeedMode;
 import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserLookupField;
+import com.hunnit_beasts.thread.model.UserLookupMode;
+import com.hunnit_beasts.thread.model.UserReadMode;
+import com.hunnit_beasts.thread.model.UserSummary;
+import com.hunnit_beasts.thread.service.DataExportService;
+import com.hunnit_beasts.thread.service.DataSeedService;
 import com.hunnit_beasts.thread.service.DatabaseService;
+import com.hunnit_beasts.thread.service.UserLookupService;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.BulkheadStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
+import com.hunnit_beasts.thread.util.ConnectionPoolStats;
+import com.hunnit_beasts.thread.util.DbIoStats;
+import com.hunnit_beasts.thread.util.DbLatencyStats;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.ExportStats;
+import com.hunnit_beasts.thread.util.LookupStats;
+import com.hunnit_beasts.thread.util.ReadCostStats;
+import com.hunnit_beasts.thread.util.ScenarioStats;
+import com.hunnit_beasts.thread.util.SeedResult;
+import com.hunnit_beasts.thread.util.ThreadUsageStats;
+import com.hunnit_beasts.thread.util.ThreadUtils;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -17,12 +51,65 @@ import java.util.List;
 public class DatabaseController {
 
     private final DatabaseService databaseService;
+    private final DataSeedService dataSeedService;
+    private final DataExportService dataExportService;
+    private final UserLookupService userLookupService;
 
     @PostMapping("/init")
-    public String initializeData() {
-        log.info("데이터베이스 초기화 요청 수신");
-        databaseService.initializeTestData();
-        return "테스트 데이터가 성공적으로 초기화되었습니다.";
+    public String initializeData(
+            @RequestParam(required = false) Long rows,
+            @RequestParam(defaultValue = "4") int parallelism,
+            @RequestParam(defaultValue = "NATIVE") SeedMode mode) {
+        if (rows == null) {
+            log.info("데이터베이스 초기화 요청 수신");
+            databaseService.initializeTestData();
+            return "테스트 데이터가 성공적으로 초기화되었습니다.";
+        }
+
+        // 행 수를 지정하면 기존 데이터를 비우고 사용자/상품을 각각 rows건씩 대량 적재
+        log.info("데이터베이스 대량 초기화 요청 수신, 행 수: {}, 병렬도: {}, 방식: {}", rows, parallelism, mode);
+        SeedResult result = dataSeedService.seed(mode, rows, rows, parallelism, true);
+        return String.format("테스트 데이터가 성공적으로 초기화되었습니다. (사용자 %d건, 상품 %d건, %dms, %.0f rows/s, %s)",
+                result.getUsers(), result.getProducts(), result.getElapsedMs(), result.getRowsPerSec(), result.getMode());
+    }
+
+    @PostMapping("/seed")
+    public SeedResult seedData(
+            @RequestParam(defaultValue = "100000") long users,
+            @RequestParam(defaultValue = "100000") long products,
+            @RequestParam(defaultValue = "true") boolean reset,
+            @RequestParam(defaultValue = "JPA_BATCH") SeedMode mode,
+            @RequestParam(defaultValue = "4") int parallelism) {
+        log.info("대량 데이터 적재 요청 수신, 사용자: {}, 상품: {}, 방식: {}", users, products, mode);
+        return dataSeedService.seed(mode, users, products, parallelism, reset);
+    }
+
+    /**
+     * 테이블 전체를 NDJSON/CSV로 스트리밍 (키셋 페이지 단위로 읽어 일정한 메모리로 처리)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTable(
+            @RequestParam(defaultValue = "USERS") ExportTable table,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "5000") int pageSize) {
+        log.info("테이블 내보내기 요청 수신, 테이블: {}, 형식: {}", table, format);
+        if (pageSize < 1) {
+            // 0이면 페이지 종료 조건이 성립하지 않고, 음수는 LIMIT에 그대로 들어가므로 거부
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "pageSize는 1 이상이어야 합니다");
+        }
+        MediaType contentType = format == ExportFormat.NDJSON
+                ? MediaType.APPLICATION_NDJSON
+                : new MediaType("text", "csv", StandardCharsets.UTF_8);
+        String fileName = table.getTableName() + (format == ExportFormat.NDJSON ? ".ndjson" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(out -> dataExportService.export(table, format, pageSize, out));
+    }
+
+    @GetMapping("/export/stats")
+    public ExportStats exportStats() {
+        return dataExportService.getLastExportStats();
     }
 
     @GetMapping("/single/{id}")
@@ -31,27 +118,77 @@ public class DatabaseController {
         return databaseService.getSingleUser(id);
     }
 
+    @GetMapping("/users/by-email")
+    public List<UserSummary> findUsersByEmail(
+            @RequestParam String email,
+            @RequestParam(defaultValue = "INDEXED") UserLookupMode mode) {
+        log.info("이메일로 사용자 조회 요청 수신, 이메일: {}, 방식: {}", email, mode);
+        return userLookupService.lookup(UserLookupField.EMAIL, email, mode);
+    }
+
+    @GetMapping("/users/by-username")
+    public List<UserSummary> findUsersByUsername(
+            @RequestParam String username,
+            @RequestParam(defaultValue = "INDEXED") UserLookupMode mode) {
+        log.info("사용자명으로 사용자 조회 요청 수신, 사용자명: {}, 방식: {}", username, mode);
+        return userLookupService.lookup(UserLookupField.USERNAME, username, mode);
+    }
+
     @GetMapping("/batch")
     public List<ExecutionResult<User>> batchGetUsers(
-            @RequestParam(defaultValue = "10") int count) {
-        log.info("배치 사용자 조회 요청 수신, 개수: {}", count);
-        return databaseService.batchGetUsersWithVirtualThread(count);
+            @RequestParam(defaultValue = "10") int count,
+            DbQueryOptions options) {
+        log.info("배치 사용자 조회 요청 수신, 개수: {}, 옵션: {}", count, options);
+        databaseService.applyPoolSize(options.getPoolSize());
+        return databaseService.batchGetUsersWithVirtualThread(count, options);
+    }
+
+    @GetMapping("/pool/stats")
+    public ConnectionPoolStats poolStats() {
+        return databaseService.getPoolStats();
+    }
+
+    @GetMapping("/cache/stats")
+    public EntityCacheStats entityCacheStats() {
+        return databaseService.getEntityCacheStats();
+    }
+
+    @DeleteMapping("/cache")
+    public EntityCacheStats clearEntityCache() {
+        databaseService.clearEntityCache();
+        return databaseService.getEntityCacheStats();
     }
 
     @GetMapping("/compare")
     public ComparisonResult<User> compareDbQueries(
-            @RequestParam(defaultValue = "50") int count) {
-        log.info("데이터베이스 쿼리 성능 비교 중, 개수: {}", count);
+            @RequestParam(defaultValue = "50") int count,
+            DbQueryOptions options) {
+        log.info("데이터베이스 쿼리 성능 비교 중, 개수: {}, 옵션: {}", count, options);
+        databaseService.applyPoolSize(options.getPoolSize());
+        DbLatencyStats latencyBefore = databaseService.getDbLatencyStats();
+        BulkheadStats admissionBefore = options.isAdmission() ? databaseService.getAdmissionStats(options) : null;
+        EntityCacheStats entityCacheBefore = options.isEntityCache() ? databaseService.getEntityCacheStats() : null;
 
+        // 실행마다 커넥션 풀 대기 시간/대기 스레드 최대치를 따로 집계
+        databaseService.resetPoolPeaks();
+        ConnectionPoolStats poolBefore = databaseService.getPoolStats();
+        ThreadUtils.resetPeakThreadCount();
         long startTimeVirtual = System.currentTimeMillis();
         List<ExecutionResult<User>> virtualResults =
-                databaseService.batchGetUsersWithVirtualThread(count);
+                databaseService.batchGetUsersWithVirtualThread(count, options);
         long totalTimeVirtual = System.currentTimeMillis() - startTimeVirtual;
+        ConnectionPoolStats virtualPool = databaseService.getPoolStats().since(poolBefore);
+        ThreadUsageStats virtualThreads = ThreadUsageStats.of(virtualResults, ThreadUtils.peakThreadCount());
 
+        databaseService.resetPoolPeaks();
+        poolBefore = databaseService.getPoolStats();
+        ThreadUtils.resetPeakThreadCount();
         long startTimePlatform = System.currentTimeMillis();
         List<ExecutionResult<User>> platformResults =
-                databaseService.batchGetUsersWithPlatformThread(count);
+                databaseService.batchGetUsersWithPlatformThread(count, options);
         long totalTimePlatform = System.currentTimeMillis() - startTimePlatform;
+        ConnectionPoolStats platformPool = databaseService.getPoolStats().since(poolBefore);
+        ThreadUsageStats platformThreads = ThreadUsageStats.of(platformResults, ThreadUtils.peakThreadCount());
 
         ComparisonResult<User> result = new ComparisonResult<>("데이터베이스 쿼리 비교", count);
         result.setVirtualThreadResults(virtualResults);
@@ -59,7 +196,175 @@ public class DatabaseController {
         result.setVirtualThreadTotalTimeMs(totalTimeVirtual);
         result.setPlatformThreadTotalTimeMs(totalTimePlatform);
         result.calculateSpeedup();
+        result.addMetric("dbLatency", databaseService.getDbLatencyStats().since(latencyBefore));
+        result.addMetric("virtualThreadPool", virtualPool);
+        result.addMetric("platformThreadPool", platformPool);
+        result.addMetric("virtualThreadUsage", virtualThreads);
+        result.addMetric("platformThreadUsage", platformThreads);
+        if (options.isReactive()) {
+            result.addMetric("reactive", runReactive(count, options));
+        }
+        if (admissionBefore != null) {
+            result.addMetric("admission", databaseService.getAdmissionStats(options).since(admissionBefore));
+        }
+        if (entityCacheBefore != null) {
+            // 가상 스레드 실행이 캐시를 채우므로 플랫폼 스레드 실행은 대부분 적중
+            result.addMetric("entityCache", databaseService.getEntityCacheStats().since(entityCacheBefore));
+        }
 
         return result;
     }
-}
\ No newline at end of file
+
+    @GetMapping("/compare-query-modes")
+    public List<ScenarioStats> compareQueryModes(
+            @RequestParam(defaultValue = "200") int count,
+            DbQueryOptions options) {
+        log.info("조회 방식 비교 중, 개수: {}, 청크 크기: {}, 대기: {}ms",
+                count, options.getChunkSize(), options.getLingerMs());
+        databaseService.applyPoolSize(options.getPoolSize());
+
+        // 같은 조회를 단건 쿼리 N번 / 청크 IN 쿼리로 각각 두 실행기에서 실행
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (DbQueryMode mode : DbQueryMode.values()) {
+            options.setQueryMode(mode);
+            boolean batched = mode == DbQueryMode.BATCHED;
+            for (boolean virtual : new boolean[]{true, false}) {
+                DbLatencyStats latencyBefore = databaseService.getDbLatencyStats();
+                BatchStats batchBefore = batched ? databaseService.getUserBatchStats(options) : null;
+
+                long startTime = System.currentTimeMillis();
+                List<ExecutionResult<User>> results = virtual
+                        ? databaseService.batchGetUsersWithVirtualThread(count, options)
+                        : databaseService.batchGetUsersWithPlatformThread(count, options);
+                long totalTime = System.currentTimeMillis() - startTime;
+
+                ScenarioStats scenarioStats = ScenarioStats.of(
+                        (batched ? "청크 IN 쿼리" : "단건 쿼리") + " - " + (virtual ? "가상 스레드" : "플랫폼 스레드"),
+                        results, totalTime);
+                // 쿼리 수 = 주입된 지연 횟수
+                scenarioStats.addMetric("dbLatency", databaseService.getDbLatencyStats().since(latencyBefore));
+                if (batchBefore != null) {
+                    scenarioStats.addMetric("batching", databaseService.getUserBatchStats(options).since(batchBefore));
+                }
+                stats.add(scenarioStats);
+            }
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-write-behind")
+    public List<ScenarioStats> compareWriteBehind(
+            @RequestParam(defaultValue = "1000") int count,
+            DbQueryOptions options) {
+        log.info("지연 쓰기 비교 중, 개수: {}", count);
+
+        // 같은 저장을 행마다 커밋 / 지연 쓰기로 모아 커밋 (가상 스레드)
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean writeBehind : new boolean[]{false, true}) {
+            options.setWriteBehind(writeBehind);
+            WriteBehindStats before = databaseService.getWriteBehindStats();
+
+            long startTime = System.currentTimeMillis();
+            List<ExecutionResult<User>> results = databaseService.batchInsertUsersWithVirtualThread(count, options);
+            long totalTime = System.currentTimeMillis() - startTime;
+
+            ScenarioStats scenarioStats = ScenarioStats.of(
+                    writeBehind ? "사용자 저장 - 지연 쓰기 배치 커밋" : "사용자 저장 - 행마다 커밋", results, totalTime);
+            // 행마다 저장은 성공한 저장 수만큼, 지연 쓰기는 배치 수만큼 커밋
+            WriteBehindStats delta = databaseService.getWriteBehindStats().since(before);
+            long commits = writeBehind ? delta.getCommits() : scenarioStats.getSuccessCount();
+            scenarioStats.addMetric("commits", commits);
+            scenarioStats.addMetric("commitsPerSec", totalTime > 0 ? commits * 1000.0 / totalTime : 0.0);
+            if (writeBehind) {
+                scenarioStats.addMetric("writeBehind", delta);
+            }
+            stats.add(scenarioStats);
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-disk-io")
+    public List<ScenarioStats> compareDiskIo(
+            @RequestParam(defaultValue = "2000") int count,
+            DbQueryOptions options) {
+        log.info("디스크 I/O 비교 중, 개수: {}", count);
+
+        // 같은 저장/무작위 조회를 가상/플랫폼 스레드로 실행 (h2file 프로필에서 파일 I/O 포함)
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (boolean write : new boolean[]{true, false}) {
+            for (boolean virtual : new boolean[]{true, false}) {
+                DbIoStats ioBefore = databaseService.getDbIoStats();
+
+                long startTime = System.currentTimeMillis();
+                List<ExecutionResult<User>> results = write
+                        ? (virtual
+                            ? databaseService.batchInsertUsersWithVirtualThread(count, options)
+                            : databaseService.batchInsertUsersWithPlatformThread(count, options))
+                        : databaseService.randomGetUsers(count, virtual);
+                long totalTime = System.currentTimeMillis() - startTime;
+
+                ScenarioStats scenarioStats = ScenarioStats.of(
+                        (write ? "사용자 저장" : "무작위 사용자 조회") + " - " + (virtual ? "가상 스레드" : "플랫폼 스레드"),
+                        results, totalTime);
+                scenarioStats.addMetric("dbIo", databaseService.getDbIoStats().since(ioBefore));
+                stats.add(scenarioStats);
+            }
+        }
+        return stats;
+    }
+
+    @GetMapping("/read")
+    public ReadCostStats readUsers(
+            @RequestParam(defaultValue = "PROJECTION") UserReadMode mode,
+            @RequestParam(defaultValue = "100000") int rows,
+            @RequestParam(defaultValue = "1000") int pageSize) {
+        log.info("사용자 목록 읽기 요청 수신, 방식: {}, 행 수: {}, 페이지 크기: {}", mode, rows, pageSize);
+        return databaseService.readUsers(mode, rows, pageSize);
+    }
+
+    @GetMapping("/compare-read-modes")
+    public List<ReadCostStats> compareReadModes(
+            @RequestParam(defaultValue = "100000") int rows,
+            @RequestParam(defaultValue = "1000") int pageSize) {
+        log.info("읽기 방식 비교 중, 행 수: {}, 페이지 크기: {}", rows, pageSize);
+
+        // 먼저 실행한 방식이 JIT 워밍업 비용을 떠안지 않도록 방식마다 한 페이지씩 미리 실행
+        for (UserReadMode mode : UserReadMode.values()) {
+            databaseService.readUsers(mode, pageSize, pageSize);
+        }
+        List<ReadCostStats> stats = new ArrayList<>();
+        for (UserReadMode mode : UserReadMode.values()) {
+            stats.add(databaseService.readUsers(mode, rows, pageSize));
+        }
+        return stats;
+    }
+
+    @GetMapping("/compare-lookups")
+    public List<LookupStats> compareLookups(
+            @RequestParam(defaultValue = "EMAIL") UserLookupField field,
+            @RequestParam(defaultValue = "0") long rows,
+            @RequestParam(defaultValue = "10000") int lookups,
+            @RequestParam(defaultValue = "20") int scanLookups,
+            @RequestParam(defaultValue = "8") int concurrency) {
+        log.info("사용자 키 조회 방식 비교 중, 키: {}, 적재: {}, 조회 수: {}", field, rows, lookups);
+        if (rows > 0) {
+            // 기존 데이터를 비우고 사용자만 네이티브 방식으로 적재 (수백만 건 규모)
+            dataSeedService.seed(SeedMode.NATIVE, rows, 0, 4, true);
+        }
+        return userLookupService.compareLookups(field, lookups, scanLookups, concurrency);
+    }
+
+    /**
+     * 같은 조회를 R2DBC로 논블로킹 실행해 처리량/지연 시간/스레드 수를 요약
+     */
+    private ScenarioStats runReactive(int count, DbQueryOptions options) {
+        ThreadUtils.resetPeakThreadCount();
+        long startTime = System.currentTimeMillis();
+        List<ExecutionResult<User>> results = databaseService.batchGetUsersReactive(count, options);
+        long totalTime = System.currentTimeMillis() - startTime;
+
+        ScenarioStats stats = ScenarioStats.of("R2DBC 리액티브 조회", results, totalTime);
+        stats.addMetric("threadUsage", ThreadUsageStats.of(results, ThreadUtils.peakThreadCount()));
+        return stats;
+    }
+}
@@ -1,12 +1,18 @@
 package com.hunnit_beasts.thread.controller;
 
+import com.hunnit_beasts.thread.model.FileWriteMode;
+import com.hunnit_beasts.thread.model.FileWriteOptions;
 import com.hunnit_beasts.thread.service.FileService;
+import com.hunnit_beasts.thread.util.BufferPoolStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.MemoryUtils;
+import com.hunnit_beasts.thread.util.ScenarioStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -35,25 +41,27 @@ public class FileController {
     @GetMapping("/batch")
     public List<ExecutionResult<String>> batchProcessFiles(
             @RequestParam(defaultValue = "10") int count,
-            @RequestParam(defaultValue = "100") int sizeKb) {
-        log.info("배치 파일 처리 요청 수신, 개수: {}, 크기: {}KB", count, sizeKb);
-        return fileService.batchProcessFilesWithVirtualThread(count, sizeKb);
+            @RequestParam(defaultValue = "100") int sizeKb,
+            FileWriteOptions options) {
+        log.info("배치 파일 처리 요청 수신, 개수: {}, 크기: {}KB, 옵션: {}", count, sizeKb, options);
+        return fileService.batchProcessFilesWithVirtualThread(count, sizeKb, options);
     }
 
     @GetMapping("/compare")
     public ComparisonResult<String> compareFileProcessing(
             @RequestParam(defaultValue = "20") int count,
-            @RequestParam(defaultValue = "100") int sizeKb) {
-        log.info("파일 처리 성능 비교 중, 개수: {}, 크기: {}KB", count, sizeKb);
+            @RequestParam(defaultValue = "100") int sizeKb,
+            FileWriteOptions options) {
+        log.info("파일 처리 성능 비교 중, 개수: {}, 크기: {}KB, 옵션: {}", count, sizeKb, options);
 
         long startTimeVirtual = System.currentTimeMillis();
         List<ExecutionResult<String>> virtualResults =
-                fileService.batchProcessFilesWithVirtualThread(count, sizeKb);
+                fileService.batchProcessFilesWithVirtualThread(count, sizeKb, options);
         long totalTimeVirtual = System.currentTimeMillis() - startTimeVirtual;
 
         long startTimePlatform = System.currentTimeMillis();
         List<ExecutionResult<String>> platformResults =
-                fileService.batchProcessFilesWithPlatformThread(count, sizeKb);
+                fileService.batchProcessFilesWithPlatformThread(count, sizeKb, options);
         long totalTimePlatform = System.currentTimeMillis() - startTimePlatform;
 
         ComparisonResult<String> result = new ComparisonResult<>("파일 처리 비교", count);
@@ -65,4 +73,50 @@ public class FileController {
 
         return result;
     }
-}
\ No newline at end of file
+
+    @GetMapping("/compare-write-modes")
+    public List<ScenarioStats> compareWriteModes(
+            @RequestParam(defaultValue = "100") int count,
+            @RequestParam(defaultValue = "51200") int sizeKb,
+            @RequestParam(defaultValue = "false") boolean gcBetweenModes,
+            FileWriteOptions options) {
+        log.info("파일 쓰기 방식 비교 중, 개수: {}, 크기: {}KB, 청크: {}KB, 동시 HEAP 쓰기: {}",
+                count, sizeKb, options.getChunkKb(), options.getMaxHeapWrites());
+
+        // 같은 파일들을 힙 byte[] 한 번 쓰기 / 다이렉트 버퍼 청크 쓰기로 가상 스레드에서 동시에 기록
+        // HEAP 방식은 maxHeapWrites개씩만 동시에 힙에 올리므로 최대 힙 사용량은 약 maxHeapWrites x sizeKb
+        List<ScenarioStats> stats = new ArrayList<>();
+        for (FileWriteMode mode : FileWriteMode.values()) {
+            options.setMode(mode);
+            BufferPoolStats poolBefore = fileService.getBufferPoolStats(options);
+            if (gcBetweenModes) {
+                // 이전 실행의 쓰레기가 최대 힙 사용량에 섞이지 않도록 요청한 경우에만 정리
+                System.gc();
+            }
+            MemoryUtils.resetPeakHeapUsage();
+
+            List<ExecutionResult<String>> results = List.of();
+            try {
+                long startTime = System.currentTimeMillis();
+                results = fileService.batchProcessFilesWithVirtualThread(count, sizeKb, options);
+                long totalTime = System.currentTimeMillis() - startTime;
+
+                ScenarioStats scenarioStats = ScenarioStats.of(
+                        mode == FileWriteMode.HEAP ? "파일 쓰기 - 힙 byte[] 한 번에" : "파일 쓰기 - FileChannel + 다이렉트 버퍼 청크",
+                        results, totalTime);
+                double writtenMb = scenarioStats.getSuccessCount() * (sizeKb / 1024.0);
+                scenarioStats.addMetric("peakHeapMb", MemoryUtils.peakHeapUsedMb());
+                scenarioStats.addMetric("directMemoryMb", MemoryUtils.directMemoryUsedMb());
+                scenarioStats.addMetric("mbPerSec", totalTime > 0 ? writtenMb * 1000.0 / totalTime : 0.0);
+                if (mode == FileWriteMode.CHANNEL) {
+                    scenarioStats.addMetric("bufferPool", fileService.getBufferPoolStats(options).since(poolBefore));
+                }
+                stats.add(scenarioStats);
+            } finally {
+                // 대용량 파일이 디스크에 쌓이지 않도록 측정이 실패해도 기록된 파일은 삭제
+                fileService.deleteFiles(results);
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,82 @@
+package com.hunnit_beasts.thread.controller;
+
+import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.StubSettings;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
+import com.hunnit_beasts.thread.service.StubApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * jsonplaceholder 호환 로컬 스텁 API
+ */
+@RestController
+@RequestMapping("/stub")
+@Slf4j
+@RequiredArgsConstructor
+public class StubApiController {
+
+    private final StubApiService stubApiService;
+
+    @GetMapping("/posts/{id}")
+    public ApiResponse getPost(@PathVariable long id) {
+        simulateConditions();
+        return stubApiService.getPost(id);
+    }
+
+    @GetMapping(value = "/posts", params = "id")
+    public List<ApiResponse> getPosts(@RequestParam(name = "id") List<Long> ids) {
+        simulateConditions();
+        return stubApiService.getPosts(ids);
+    }
+
+    /**
+     * id 없이 요청하면 게시글 1..limit 전체 목록을 스트리밍으로 응답
+     */
+    @GetMapping(value = "/posts", params = "!id")
+    public ResponseEntity<StreamingResponseBody> streamPosts(@RequestParam(defaultValue = "100") int limit) {
+        simulateConditions();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> stubApiService.writePosts(limit, out));
+    }
+
+    @GetMapping("/settings")
+    public StubSettings getSettings() {
+        return stubApiService.getSettings();
+    }
+
+    @PutMapping("/settings")
+    public StubSettings updateSettings(@RequestBody StubSettings settings) {
+        return stubApiService.updateSettings(settings);
+    }
+
+    @GetMapping("/stats")
+    public StubTrafficStats getTrafficStats() {
+        return stubApiService.getTrafficStats();
+    }
+
+    @DeleteMapping("/stats")
+    public StubTrafficStats resetTrafficStats() {
+        stubApiService.resetTrafficStats();
+        return stubApiService.getTrafficStats();
+    }
+
+    /**
+     * 설정된 지연을 적용한 뒤, 장애 주입 비율에 따라 503으로 실패
+     */
+    private void simulateConditions() {
+        stubApiService.simulateLatency();
+        if (stubApiService.shouldFail()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "스텁 장애 주입");
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.hunnit_beasts.thread.controller;
 
+import com.hunnit_beasts.thread.model.ApiCallOptions;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
 import com.hunnit_beasts.thread.service.WorkflowService;
 import com.hunnit_beasts.thread.util.ComparisonResult;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
+import com.hunnit_beasts.thread.util.TransactionStats;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,23 +29,34 @@ public class WorkflowController {
 
     @GetMapping("/simple")
     public List<ExecutionResult<String>> runSimpleWorkflows(
-            @RequestParam(defaultValue = "5") int count) {
+            @RequestParam(defaultValue = "5") int count,
+            ApiCallOptions options,
+            DbQueryOptions dbOptions) {
         log.info("간단한 워크플로우 실행 요청, 개수: {}", count);
-        return workflowService.runMultipleSimpleWorkflowsWithVirtualThread(count);
+        return workflowService.runMultipleSimpleWorkflowsWithVirtualThread(count, options, dbOptions);
     }
 
     @GetMapping("/complex")
     public List<ExecutionResult<String>> runComplexWorkflows(
-            @RequestParam(defaultValue = "3") int count) {
+            @RequestParam(defaultValue = "3") int count,
+            ApiCallOptions options,
+            DbQueryOptions dbOptions) {
         log.info("복잡한 워크플로우 실행 요청, 개수: {}", count);
-        return workflowService.runMultipleComplexWorkflowsWithVirtualThread(count);
+        return workflowService.runMultipleComplexWorkflowsWithVirtualThread(count, options, dbOptions);
     }
 
     @GetMapping("/compare")
     public ComparisonResult<String> compareWorkflows(
             @RequestParam(defaultValue = "simple") String type,
-            @RequestParam(defaultValue = "5") int count) {
-        log.info("워크플로우 비교 요청, 유형: {}, 개수: {}", type, count);
+            @RequestParam(defaultValue = "5") int count,
+            ApiCallOptions options,
+            DbQueryOptions dbOptions) {
+        log.info("워크플로우 비교 요청, 유형: {}, 개수: {}, API 옵션: {}, DB 옵션: {}", type, count, options, dbOptions);
+
+        SingleFlightStats coalescingBefore = options.isCoalesce() ? workflowService.getCoalescingStats() : null;
+        ResilienceStats resilienceBefore = options.isResilient() ? workflowService.getResilienceStats() : null;
+        EntityCacheStats entityCacheBefore = dbOptions.isEntityCache() ? workflowService.getEntityCacheStats() : null;
+        WriteBehindStats writeBehindBefore = dbOptions.isWriteBehind() ? workflowService.getWriteBehindStats() : null;
 
         long startTimeVirtual = System.currentTimeMillis();
         List<ExecutionResult<String>> virtualResults;
@@ -46,11 +64,12 @@ public class WorkflowController {
 
         if ("complex".equalsIgnoreCase(type)) {
             // 복잡한 워크플로우 비교
-            virtualResults = workflowService.runMultipleComplexWorkflowsWithVirtualThread(count);
+            TransactionStats transactionBefore = workflowService.getTransactionStats();
+            virtualResults = workflowService.runMultipleComplexWorkflowsWithVirtualThread(count, options, dbOptions);
             long totalTimeVirtual = System.currentTimeMillis() - startTimeVirtual;
 
             long startTimePlatform = System.currentTimeMillis();
-            platformResults = workflowService.runMultipleComplexWorkflowsWithPlatformThread(count);
+            platformResults = workflowService.runMultipleComplexWorkflowsWithPlatformThread(count, options, dbOptions);
             long totalTimePlatform = System.currentTimeMillis() - startTimePlatform;
 
             ComparisonResult<String> result = new ComparisonResult<>("복잡한 워크플로우 비교", count);
@@ -59,6 +78,20 @@ public class WorkflowController {
             result.setVirtualThreadTotalTimeMs(totalTimeVirtual);
             result.setPlatformThreadTotalTimeMs(totalTimePlatform);
             result.calculateSpeedup();
+            if (coalescingBefore != null) {
+                result.addMetric("coalescing", workflowService.getCoalescingStats().since(coalescingBefore));
+            }
+            if (resilienceBefore != null) {
+                result.addMetric("resilience", workflowService.getResilienceStats().since(resilienceBefore));
+            }
+            if (writeBehindBefore != null) {
+                result.addMetric("writeBehind", workflowService.getWriteBehindStats().since(writeBehindBefore));
+            }
+            if (entityCacheBefore != null) {
+                result.addMetric("entityCache", workflowService.getEntityCacheStats().since(entityCacheBefore));
+            }
+            // 가상/플랫폼 양쪽 실행을 합친 워크플로우당 커넥션 획득/커밋 횟수
+            result.addMetric("dbStep", workflowService.getTransactionStats().since(transactionBefore, count * 2L));
 
             log.info("복잡한 워크플로우 비교 결과 - 가상: {}ms, 플랫폼: {}ms, 속도 향상: {}배",
                     totalTimeVirtual, totalTimePlatform, result.getSpeedupFactor());
@@ -66,11 +99,11 @@ public class WorkflowController {
             return result;
         } else {
             // 간단한 워크플로우 비교
-            virtualResults = workflowService.runMultipleSimpleWorkflowsWithVirtualThread(count);
+            virtualResults = workflowService.runMultipleSimpleWorkflowsWithVirtualThread(count, options, dbOptions);
             long totalTimeVirtual = System.currentTimeMillis() - startTimeVirtual;
 
             long startTimePlatform = System.currentTimeMillis();
-            platformResults = workflowService.runMultipleSimpleWorkflowsWithPlatformThread(count);
+            platformResults = workflowService.runMultipleSimpleWorkflowsWithPlatformThread(count, options, dbOptions);
             long totalTimePlatform = System.currentTimeMillis() - startTimePlatform;
 
             ComparisonResult<String> result = new ComparisonResult<>("간단한 워크플로우 비교", count);
@@ -79,6 +112,15 @@ public class WorkflowController {
             result.setVirtualThreadTotalTimeMs(totalTimeVirtual);
             result.setPlatformThreadTotalTimeMs(totalTimePlatform);
             result.calculateSpeedup();
+            if (coalescingBefore != null) {
+                result.addMetric("coalescing", workflowService.getCoalescingStats().since(coalescingBefore));
+            }
+            if (resilienceBefore != null) {
+                result.addMetric("resilience", workflowService.getResilienceStats().since(resilienceBefore));
+            }
+            if (writeBehindBefore != null) {
+                result.addMetric("writeBehind", workflowService.getWriteBehindStats().since(writeBehindBefore));
+            }
 
             log.info("간단한 워크플로우 비교 결과 - 가상: {}ms, 플랫폼: {}ms, 속도 향상: {}배",
                     totalTimeVirtual, totalTimePlatform, result.getSpeedupFactor());
@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 상품 가격 통계 계산 방식
+ */
+public enum AnalyticsEngine {
+    // H2 집계 쿼리 (COUNT/SUM/PERCENTILE_DISC + 구간별 GROUP BY)
+    SQL,
+    // 조건에 맞는 엔티티를 불러온 뒤 parallelStream으로 계산
+    PARALLEL_STREAM,
+    // 메모리에 둔 이름/가격 열 스냅샷(String[]/double[])을 fork/join으로 스캔
+    COLUMNAR
+}
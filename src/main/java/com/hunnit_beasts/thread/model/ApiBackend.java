@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * API 호출에 사용할 HTTP 클라이언트 백엔드
+ */
+public enum ApiBackend {
+    // WebClient + block()
+    WEBCLIENT,
+    // java.net.http.HttpClient 동기 send
+    HTTP_CLIENT_SYNC,
+    // java.net.http.HttpClient 비동기 sendAsync
+    HTTP_CLIENT_ASYNC
+}
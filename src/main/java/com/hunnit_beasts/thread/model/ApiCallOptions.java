@@ -0,0 +1,31 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+/**
+ * API 호출 시나리오의 요청별 실행 옵션 (쿼리 파라미터로 바인딩)
+ */
+@Data
+public class ApiCallOptions {
+    private ApiBackend backend = ApiBackend.WEBCLIENT;
+    private ApiProtocol protocol = ApiProtocol.HTTP_1_1;
+    // id별 응답 캐시 사용 여부
+    private boolean cache = false;
+    // 같은 id에 대한 동시 호출 병합(single-flight) 여부
+    private boolean coalesce = false;
+    // 여러 id를 모아 다건 조회(?id=1&id=2...)로 보내는 배칭 여부
+    private boolean batch = false;
+    private int batchSize = 20;
+    private long lingerMs = 5;
+    // 호출 기한 (0이면 무제한)
+    private long timeoutMs = 0;
+    // 헤지 요청 사용 여부 및 헤지 지연 (0이면 최근 p95 사용)
+    private boolean hedge = false;
+    private long hedgeDelayMs = 0;
+    // 재시도 + 회로 차단 사용 여부
+    private boolean resilient = false;
+    // 벌크헤드 + 속도 제한 사용 여부 및 설정값 재정의 (0이면 api.limits 설정 사용)
+    private boolean limited = false;
+    private int maxConcurrency = 0;
+    private int ratePerSecond = 0;
+}
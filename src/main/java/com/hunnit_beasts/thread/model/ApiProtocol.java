@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * API 호출에 사용할 HTTP 프로토콜
+ */
+public enum ApiProtocol {
+    // HTTP/1.1 - 동시 요청 수만큼 연결(소켓)이 필요
+    HTTP_1_1,
+    // 평문 HTTP/2 (h2c) - 적은 연결 위에 여러 스트림을 다중화
+    H2C
+}
@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 사용자 조회 쿼리 방식
+ */
+public enum DbQueryMode {
+    // id마다 단건 쿼리 (N개 요청 = N번 왕복)
+    SINGLE,
+    // 동시 요청을 모아 청크 단위 IN 쿼리로 다건 조회
+    BATCHED
+}
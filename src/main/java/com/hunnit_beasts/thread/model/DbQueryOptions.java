@@ -0,0 +1,36 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+/**
+ * DB 조회 시나리오의 요청별 실행 옵션 (쿼리 파라미터로 바인딩)
+ */
+@Data
+public class DbQueryOptions {
+    // 커넥션 풀 크기 기준 입장 제어(DB 벌크헤드) 사용 여부
+    private boolean admission = false;
+    // 동시 쿼리 상한 (0이면 커넥션 풀 최대 크기)
+    private int maxInFlight = 0;
+    // 실행 전에 적용할 커넥션 풀 최대 크기 (0이면 현재 크기 유지)
+    private int poolSize = 0;
+    // 조회 방식 (단건 쿼리 / 청크 IN 쿼리)
+    private DbQueryMode queryMode = DbQueryMode.SINGLE;
+    // IN 쿼리 한 번에 담을 최대 id 수
+    private int chunkSize = 50;
+    // 첫 요청 이후 배치(IN 쿼리 청크, 공유 트랜잭션)를 채우기 위해 기다리는 최대 시간
+    private long lingerMs = 5;
+    // 사용자/상품 조회 앞단 read-through 엔티티 캐시 사용 여부
+    private boolean entityCache = false;
+    // 조회 후 새 사용자 저장까지 수행
+    private boolean insert = false;
+    // 저장을 지연 쓰기 배처에 맡겨 여러 요청을 트랜잭션 하나로 커밋
+    private boolean writeBehind = false;
+    // 복잡한 워크플로우 DB 단계의 트랜잭션 방식
+    private DbStepMode dbStepMode = DbStepMode.AUTO_COMMIT;
+    // 공유 트랜잭션 하나에 모을 최대 워크플로우 수
+    private int txBatchSize = 20;
+    // /database/compare에 R2DBC 리액티브 실행을 함께 포함
+    private boolean reactive = false;
+    // 리액티브 실행의 동시 처리 상한 (0이면 R2DBC 커넥션 풀 최대 크기)
+    private int reactiveConcurrency = 0;
+}
@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 복잡한 워크플로우 DB 단계(기존 사용자 조회 + 사용자/상품 저장)의 트랜잭션 방식
+ */
+public enum DbStepMode {
+    // 리포지토리 호출마다 자체 트랜잭션 (호출마다 커넥션 획득 + 커밋)
+    AUTO_COMMIT,
+    // 워크플로우 하나의 DB 단계를 트랜잭션 하나, 커넥션 하나로 실행
+    SINGLE_TRANSACTION,
+    // 동시에 실행 중인 여러 워크플로우의 DB 단계를 모아 트랜잭션 하나로 실행
+    SHARED_TRANSACTION
+}
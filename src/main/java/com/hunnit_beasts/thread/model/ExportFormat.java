@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 테이블 내보내기 형식
+ */
+public enum ExportFormat {
+    // 한 줄에 JSON 객체 하나
+    NDJSON,
+    // 헤더 한 줄 + 행마다 한 줄
+    CSV
+}
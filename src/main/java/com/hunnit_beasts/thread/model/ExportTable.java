@@ -0,0 +1,27 @@
+package com.hunnit_beasts.thread.model;
+
+import java.util.List;
+
+/**
+ * 내보내기 대상 테이블과 컬럼 (첫 컬럼은 키셋 페이지 기준 id)
+ */
+public enum ExportTable {
+    USERS("users", List.of("id", "username", "email")),
+    PRODUCTS("product", List.of("id", "name", "price"));
+
+    private final String tableName;
+    private final List<String> columns;
+
+    ExportTable(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
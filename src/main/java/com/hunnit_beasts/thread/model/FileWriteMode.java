@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 파일 쓰기 방식
+ */
+public enum FileWriteMode {
+    // 파일 전체를 힙 byte[]로 만든 뒤 Files.write 한 번으로 기록 (파일 크기만큼 힙 사용)
+    HEAP,
+    // 풀에서 빌린 다이렉트 ByteBuffer를 청크 단위로 FileChannel에 반복 기록 (힙 사용 없음)
+    CHANNEL
+}
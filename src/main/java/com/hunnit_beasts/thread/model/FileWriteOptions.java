@@ -0,0 +1,17 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+/**
+ * 파일 쓰기 시나리오의 요청별 실행 옵션 (쿼리 파라미터로 바인딩)
+ */
+@Data
+public class FileWriteOptions {
+    private FileWriteMode mode = FileWriteMode.HEAP;
+    // CHANNEL 방식에서 write 한 번에 넘기는 다이렉트 버퍼 크기 (KB)
+    private int chunkKb = 256;
+    // 청크 크기별 버퍼 풀의 최대 버퍼 수 - 모두 사용 중이면 반납될 때까지 대기
+    private int maxBuffers = 64;
+    // HEAP 방식에서 동시에 파일 내용을 힙에 올리는 쓰기 수 - 최대 힙 사용량은 약 maxHeapWrites x 파일 크기
+    private int maxHeapWrites = 4;
+}
@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 대용량 게시글 목록 응답의 디코딩 방식
+ */
+public enum ListDecodeMode {
+    // WebClient bodyToMono(List) - 전체 목록을 메모리에 만든 뒤 처리
+    BUFFERED_LIST,
+    // WebClient bodyToFlux - 배열 요소를 하나씩 디코딩해 흘려보냄
+    FLUX,
+    // HttpClient InputStream + Jackson 스트리밍 파서 - 요소 하나씩 읽고 버림
+    JACKSON_STREAMING
+}
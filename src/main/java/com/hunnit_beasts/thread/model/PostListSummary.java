@@ -0,0 +1,26 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+/**
+ * 대용량 게시글 목록을 처리한 결과 요약
+ */
+@Data
+public class PostListSummary {
+    private ListDecodeMode mode;
+    // 처리한 게시글 수
+    private long count;
+    // 처리 확인용 본문 글자 수 합계
+    private long bodyChars;
+    private long peakHeapUsedMb;
+
+    /**
+     * 게시글 하나를 처리 (목록을 보관하지 않고 누적 값만 갱신)
+     */
+    public void accept(ApiResponse post) {
+        count++;
+        if (post.getBody() != null) {
+            bodyChars += post.getBody().length();
+        }
+    }
+}
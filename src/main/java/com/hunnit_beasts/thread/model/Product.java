@@ -1,18 +1,24 @@
 package com.hunnit_beasts.thread.model;
 
+import com.hunnit_beasts.thread.service.EntityCacheInvalidator;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(EntityCacheInvalidator.class)
 @Data
 @NoArgsConstructor
 public class Product {
+    // IDENTITY는 JDBC 배치 INSERT를 막으므로 시퀀스 + pooled 옵티마이저(50개씩 미리 할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
     private String name;
     private Double price;
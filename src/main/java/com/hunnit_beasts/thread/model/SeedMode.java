@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 대량 테스트 데이터 적재 방식
+ */
+public enum SeedMode {
+    // JPA persist + JDBC 배치 INSERT (영속성 컨텍스트를 거침)
+    JPA_BATCH,
+    // H2 INSERT ... SELECT FROM SYSTEM_RANGE를 여러 연결에서 병렬 실행 (영속성 컨텍스트 우회)
+    NATIVE
+}
@@ -0,0 +1,20 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+/**
+ * 로컬 스텁 API의 응답 지연 설정 (실행 중 /stub/settings로 변경)
+ */
+@Data
+public class StubSettings {
+    // 모든 응답에 더해지는 기본 지연
+    private long baseLatencyMs = 0;
+    // 0 ~ jitterMs 사이의 균등 분포 지연
+    private long jitterMs = 0;
+    // 느린 응답(꼬리 지연) 비율 (0.0 ~ 1.0)
+    private double slowRatio = 0.0;
+    // 느린 응답에 추가되는 지연
+    private long slowLatencyMs = 0;
+    // 503 응답으로 실패시킬 요청 비율 (0.0 ~ 1.0)
+    private double failureRatio = 0.0;
+}
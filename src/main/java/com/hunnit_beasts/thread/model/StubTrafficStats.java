@@ -0,0 +1,20 @@
+package com.hunnit_beasts.thread.model;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 스텁 API가 받은 트래픽 통계 (마지막 초기화 이후)
+ */
+@Data
+public class StubTrafficStats {
+    private long requests;
+    // 서로 다른 클라이언트 연결(원격 주소:포트) 수
+    private int connections;
+    // 동시에 처리 중이던 요청(HTTP/2에서는 스트림) 수의 최대치
+    private int maxInFlight;
+    // 프로토콜(HTTP/1.1, HTTP/2.0)별 요청 수
+    private Map<String, Long> protocols = new LinkedHashMap<>();
+}
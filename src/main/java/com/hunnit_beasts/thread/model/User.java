@@ -1,16 +1,25 @@
 package com.hunnit_beasts.thread.model;
 
+import com.hunnit_beasts.thread.service.EntityCacheInvalidator;
+import com.hunnit_beasts.thread.service.UserHashIndexMaintainer;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "users")
+// username/email 단건 조회용 보조 인덱스 (같은 값이 여러 번 저장될 수 있어 유일 제약은 두지 않음)
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_username", columnList = "username"),
+        @Index(name = "idx_users_email", columnList = "email")
+})
+@EntityListeners({EntityCacheInvalidator.class, UserHashIndexMaintainer.class})
 @Data
 @NoArgsConstructor
 public class User {
+    // IDENTITY는 JDBC 배치 INSERT를 막으므로 시퀀스 + pooled 옵티마이저(50개씩 미리 할당) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     private String username;
     private String email;
@@ -0,0 +1,9 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 사용자 단건 조회 키
+ */
+public enum UserLookupField {
+    USERNAME,
+    EMAIL
+}
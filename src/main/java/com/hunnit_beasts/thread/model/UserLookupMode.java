@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 사용자 키 조회 방식
+ */
+public enum UserLookupMode {
+    // 선언된 보조 인덱스(idx_users_username/idx_users_email)를 타는 조회
+    INDEXED,
+    // 컬럼을 식으로 감싸 인덱스를 쓰지 못하게 한 조회 - 테이블 전체 스캔
+    UNINDEXED,
+    // 애플리케이션이 메모리에 유지하는 해시 인덱스 조회 - DB를 거치지 않음
+    HASH_INDEX
+}
@@ -0,0 +1,13 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 사용자 목록 읽기 방식
+ */
+public enum UserReadMode {
+    // 읽기/쓰기 트랜잭션에서 엔티티 로딩 - 영속성 컨텍스트 등록 + 변경 감지 스냅샷 + 커밋 시 dirty checking
+    ENTITY,
+    // 읽기 전용 트랜잭션에서 엔티티 로딩 - Hibernate가 스냅샷을 만들지 않고 flush도 생략
+    ENTITY_READ_ONLY,
+    // 읽기 전용 트랜잭션에서 레코드 프로젝션 조회 - 엔티티 생성 자체를 생략
+    PROJECTION
+}
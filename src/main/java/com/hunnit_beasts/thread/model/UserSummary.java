@@ -0,0 +1,7 @@
+package com.hunnit_beasts.thread.model;
+
+/**
+ * 사용자 조회 전용 프로젝션 - 영속성 컨텍스트에 올라가지 않고 변경 감지 스냅샷도 없음
+ */
+public record UserSummary(Long id, String username, String email) {
+}
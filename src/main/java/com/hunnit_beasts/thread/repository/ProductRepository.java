@@ -5,8 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query(value = "SELECT p.*, SLEEP(:delayMs / 1000) FROM Product p WHERE p.id = :id", nativeQuery = true)
+    // 지연은 INJECT_LATENCY 함수가 쿼리 실행 중에 적용 (db.latency.queries.product.findById로 분포 재정의)
+    @Query(value = "SELECT p.* FROM product p WHERE p.id = :id AND INJECT_LATENCY('product.findById', :delayMs) >= 0",
+            nativeQuery = true)
     Product findByIdWithDelay(@Param("id") Long id, @Param("delayMs") int delayMs);
-}
\ No newline at end of file
+
+    // 가격 통계의 parallelStream 방식이 불러오는 엔티티 (LIKE 특수 문자는 Spring Data가 이스케이프)
+    List<Product> findByNameStartingWithAndPriceIsNotNull(String prefix);
+}
@@ -0,0 +1,61 @@
+package com.hunnit_beasts.thread.repository;
+
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.util.DbLatency;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * R2DBC(DatabaseClient)로 users 테이블에 접근하는 리액티브 리포지토리
+ * - r2dbc-h2는 내장 엔진을 구독 스레드에서 동기로 실행하므로 INJECT_LATENCY(Thread.sleep)를 쓰면
+ *   리액터 스레드가 막힘 → 같은 분포의 지연을 커넥션을 잡은 채 타이머(Mono.delay)로 기다림
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<User> findByIdWithDelay(Long id, int delayMs) {
+        return databaseClient.inConnection(connection -> {
+            long injectedMs = DbLatency.sampleDelayMs("user.findById", delayMs);
+            return Mono.delay(Duration.ofMillis(injectedMs))
+                    .then(Mono.defer(() -> Mono.from(connection
+                            .createStatement("SELECT id, username, email FROM users WHERE id = $1")
+                            .bind("$1", id)
+                            .execute())))
+                    .flatMap(result -> Mono.from(result.map(ReactiveUserRepository::toUser)));
+        });
+    }
+
+    /**
+     * 사용자 저장 - 시퀀스 값을 그대로 id로 사용
+     * (Hibernate pooled 옵티마이저는 자신이 받은 시퀀스 값의 블록만 쓰므로 여기서 받은 값과 겹치지 않음)
+     */
+    public Mono<User> insert(User user) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR users_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("INSERT INTO users (id, username, email) VALUES (:id, :username, :email)")
+                        .bind("id", id)
+                        .bind("username", user.getUsername())
+                        .bind("email", user.getEmail())
+                        .fetch()
+                        .rowsUpdated()
+                        .then(Mono.fromSupplier(() -> {
+                            user.setId(id);
+                            return user;
+                        })));
+    }
+
+    private static User toUser(Readable row) {
+        User user = new User(row.get("username", String.class), row.get("email", String.class));
+        user.setId(row.get("id", Long.class));
+        return user;
+    }
+}
@@ -1,12 +1,59 @@
 package com.hunnit_beasts.thread.repository;
 
 import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    @Query(value = "SELECT u.*, SLEEP(:delayMs / 1000) FROM User u WHERE u.id = :id", nativeQuery = true)
+    // 지연은 INJECT_LATENCY 함수가 쿼리 실행 중에 적용 (db.latency.queries.user.findById로 분포 재정의)
+    @Query(value = "SELECT u.* FROM users u WHERE u.id = :id AND INJECT_LATENCY('user.findById', :delayMs) >= 0",
+            nativeQuery = true)
     User findByIdWithDelay(@Param("id") Long id, @Param("delayMs") int delayMs);
-}
\ No newline at end of file
+
+    // 지연은 파생 테이블에서 쿼리당 한 번만 적용 (행마다 평가되지 않도록 WHERE 절에 두지 않음)
+    @Query(value = "SELECT u.* FROM users u "
+            + "JOIN (SELECT INJECT_LATENCY('user.findAllById', :delayMs) AS delay_ms) l ON l.delay_ms >= 0 "
+            + "WHERE u.id IN (:ids)",
+            nativeQuery = true)
+    List<User> findAllByIdWithDelay(@Param("ids") Collection<Long> ids, @Param("delayMs") int delayMs);
+
+    // 무작위 id 조회 범위 (적재 방식에 따라 id가 1부터 시작하지 않음)
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinId();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    // idx_users_email / idx_users_username 인덱스 조회
+    @Query("SELECT new com.hunnit_beasts.thread.model.UserSummary(u.id, u.username, u.email) "
+            + "FROM User u WHERE u.email = :email")
+    List<UserSummary> findSummariesByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.hunnit_beasts.thread.model.UserSummary(u.id, u.username, u.email) "
+            + "FROM User u WHERE u.username = :username")
+    List<UserSummary> findSummariesByUsername(@Param("username") String username);
+
+    // 컬럼을 CONCAT 식으로 감싸면 옵티마이저가 인덱스를 쓰지 못하므로 전체 스캔 (인덱스 유무 비교용)
+    @Query("SELECT new com.hunnit_beasts.thread.model.UserSummary(u.id, u.username, u.email) "
+            + "FROM User u WHERE CONCAT(u.email, '') = :email")
+    List<UserSummary> findSummariesByEmailWithoutIndex(@Param("email") String email);
+
+    @Query("SELECT new com.hunnit_beasts.thread.model.UserSummary(u.id, u.username, u.email) "
+            + "FROM User u WHERE CONCAT(u.username, '') = :username")
+    List<UserSummary> findSummariesByUsernameWithoutIndex(@Param("username") String username);
+
+    // id 기준 키셋 페이지 (OFFSET 없이 마지막 id 다음부터)
+    @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<User> findPageAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.hunnit_beasts.thread.model.UserSummary(u.id, u.username, u.email) "
+            + "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserSummary> findSummaryPageAfter(@Param("afterId") Long afterId, Limit limit);
+}
@@ -1,13 +1,24 @@
 package com.hunnit_beasts.thread.service;
 
+import com.hunnit_beasts.thread.model.ApiCallOptions;
 import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.ListDecodeMode;
+import com.hunnit_beasts.thread.model.PostListSummary;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.CacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.HedgeStats;
+import com.hunnit_beasts.thread.util.MemoryUtils;
+import com.hunnit_beasts.thread.util.OutboundLimitStats;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
 import com.hunnit_beasts.thread.util.ThreadUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,63 +29,163 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ApiCallService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final PostApiClient postApiClient;
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final ThreadPoolTaskExecutor platformThreadExecutor;
 
     /**
      * 단일 API 호출 수행
      */
     public ApiResponse callSingleApi(int id) {
+        return callSingleApi(id, new ApiCallOptions());
+    }
+
+    /**
+     * 단일 API 호출 수행 (옵션 지정)
+     */
+    public ApiResponse callSingleApi(int id, ApiCallOptions options) {
         return ThreadUtils.measureExecutionTime(
-                "Single API Call",
-                () -> webClientBuilder.build()
-                        .get()
-                        .uri("https://jsonplaceholder.typicode.com/posts/" + id)
-                        .retrieve()
-                        .bodyToMono(ApiResponse.class)
-                        .block()
+                "Single API Call (" + options.getBackend() + ")",
+                () -> postApiClient.fetchPost(id, options)
         );
     }
 
+    /**
+     * API 응답 캐시 통계 조회
+     */
+    public CacheStats getCacheStats() {
+        return postApiClient.cacheStats();
+    }
+
+    /**
+     * API 응답 캐시 초기화
+     */
+    public void clearCache() {
+        postApiClient.clearCache();
+    }
+
+    /**
+     * 동시 호출 병합(single-flight) 통계 조회
+     */
+    public SingleFlightStats getCoalescingStats() {
+        return postApiClient.coalescingStats();
+    }
+
+    /**
+     * 옵션에 해당하는 배처의 누적 배칭 통계 조회
+     */
+    public BatchStats getBatchStats(ApiCallOptions options) {
+        return postApiClient.batchStats(options);
+    }
+
+    /**
+     * 헤지 요청/호출 기한 통계 조회
+     */
+    public HedgeStats getHedgeStats() {
+        return postApiClient.hedgeStats();
+    }
+
+    /**
+     * 벌크헤드/속도 제한 통계 조회
+     */
+    public OutboundLimitStats getLimitStats(ApiCallOptions options) {
+        return postApiClient.limitStats(options);
+    }
+
+    /**
+     * 업스트림(로컬 스텁) 연결/스트림 통계 조회
+     */
+    public StubTrafficStats getUpstreamTrafficStats() {
+        return postApiClient.upstreamTrafficStats();
+    }
+
+    /**
+     * 업스트림(로컬 스텁) 연결/스트림 통계 초기화
+     */
+    public void resetUpstreamTrafficStats() {
+        postApiClient.resetUpstreamTrafficStats();
+    }
+
+    /**
+     * 재시도/회로 차단 통계 조회
+     */
+    public ResilienceStats getResilienceStats() {
+        return postApiClient.resilienceStats();
+    }
+
     /**
      * 가상 스레드를 사용하여 다중 API 호출
      */
-    @Async("virtualThreadExecutor")
-    public CompletableFuture<ExecutionResult<ApiResponse>> callApiWithVirtualThread(int id) {
+    public CompletableFuture<ExecutionResult<ApiResponse>> callApiWithVirtualThread(int id, ApiCallOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "API Call (Virtual) - " + id,
-                () -> webClientBuilder.build()
-                        .get()
-                        .uri("https://jsonplaceholder.typicode.com/posts/" + id)
-                        .retrieve()
-                        .bodyToMono(ApiResponse.class)
-                        .block()
+                () -> postApiClient.fetchPost(id, options),
+                virtualThreadExecutor
         );
     }
 
     /**
      * 플랫폼 스레드를 사용하여 다중 API 호출
      */
-    @Async("platformThreadExecutor")
-    public CompletableFuture<ExecutionResult<ApiResponse>> callApiWithPlatformThread(int id) {
+    public CompletableFuture<ExecutionResult<ApiResponse>> callApiWithPlatformThread(int id, ApiCallOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "API Call (Platform) - " + id,
-                () -> webClientBuilder.build()
-                        .get()
-                        .uri("https://jsonplaceholder.typicode.com/posts/" + id)
-                        .retrieve()
-                        .bodyToMono(ApiResponse.class)
-                        .block()
+                () -> postApiClient.fetchPost(id, options),
+                platformThreadExecutor
         );
     }
 
+    /**
+     * 대용량 게시글 목록을 지정한 디코딩 방식으로 처리 (가상 스레드)
+     * 처리 중 힙 최대 사용량을 함께 기록
+     */
+    public ExecutionResult<PostListSummary> fetchPostList(int limit, ListDecodeMode mode) {
+        return ThreadUtils.executeWithMetrics(
+                "Post List (" + mode + ") - " + limit,
+                () -> {
+                    PostListSummary summary = new PostListSummary();
+                    summary.setMode(mode);
+                    MemoryUtils.resetPeakHeapUsage();
+                    postApiClient.fetchAllPosts(limit, mode, summary::accept);
+                    summary.setPeakHeapUsedMb(MemoryUtils.peakHeapUsedMb());
+                    return summary;
+                },
+                virtualThreadExecutor
+        ).join();
+    }
+
     /**
      * 다중 API 호출 실행 (가상 스레드)
      */
     public List<ExecutionResult<ApiResponse>> callMultipleApisWithVirtualThread(int count) {
+        return callMultipleApisWithVirtualThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 다중 API 호출 실행 (가상 스레드, 옵션 지정)
+     */
+    public List<ExecutionResult<ApiResponse>> callMultipleApisWithVirtualThread(int count, ApiCallOptions options) {
         List<CompletableFuture<ExecutionResult<ApiResponse>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(callApiWithVirtualThread(i));
+            futures.add(callApiWithVirtualThread(i, options));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 같은 id를 duplicates번씩 동시에 요청하는 버스트 호출 (가상 스레드)
+     */
+    public List<ExecutionResult<ApiResponse>> callBurstWithVirtualThread(int count, int duplicates, ApiCallOptions options) {
+        List<CompletableFuture<ExecutionResult<ApiResponse>>> futures = new ArrayList<>();
+
+        for (int i = 1; i <= count; i++) {
+            for (int d = 0; d < duplicates; d++) {
+                futures.add(callApiWithVirtualThread(i, options));
+            }
         }
 
         return futures.stream()
@@ -86,14 +197,21 @@ public class ApiCallService {
      * 다중 API 호출 실행 (플랫폼 스레드)
      */
     public List<ExecutionResult<ApiResponse>> callMultipleApisWithPlatformThread(int count) {
+        return callMultipleApisWithPlatformThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 다중 API 호출 실행 (플랫폼 스레드, 옵션 지정)
+     */
+    public List<ExecutionResult<ApiResponse>> callMultipleApisWithPlatformThread(int count, ApiCallOptions options) {
         List<CompletableFuture<ExecutionResult<ApiResponse>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(callApiWithPlatformThread(i));
+            futures.add(callApiWithPlatformThread(i, options));
         }
 
         return futures.stream()
                 .map(CompletableFuture::join)
                 .toList();
     }
-}
\ No newline at end of file
+}
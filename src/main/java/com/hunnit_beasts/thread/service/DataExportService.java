@@ -0,0 +1,177 @@
+package com.hunnit_beasts.thread.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hunnit_beasts.thread.model.ExportFormat;
+import com.hunnit_beasts.thread.model.ExportTable;
+import com.hunnit_beasts.thread.util.ExportStats;
+import com.hunnit_beasts.thread.util.MemoryUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 대용량 테이블을 응답 스트림으로 바로 내보내기
+ * - id 키셋 페이지(WHERE id > ? ORDER BY id LIMIT ?)로 읽으므로 OFFSET 비용이 없고 페이지 하나만 메모리에 둠
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 ResultSet 행을 바로 NDJSON/CSV로 기록
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DataExportService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private volatile ExportStats lastExport = new ExportStats();
+
+    /**
+     * 테이블 전체를 지정한 형식으로 out에 기록 (out은 닫지 않음)
+     */
+    public void export(ExportTable table, ExportFormat format, int pageSize, OutputStream out) throws IOException {
+        log.info("테이블 내보내기 시작 - {}, 형식: {}, 페이지 크기: {}", table, format, pageSize);
+        MemoryUtils.resetPeakHeapUsage();
+        long startTime = System.currentTimeMillis();
+
+        long rows;
+        try (RowWriter writer = format == ExportFormat.NDJSON
+                ? new NdjsonRowWriter(ndjsonGenerator(out), table.getColumns())
+                : new CsvRowWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)),
+                        table.getColumns())) {
+            rows = exportPages(table, pageSize, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        lastExport = new ExportStats(table.name(), format.name(), rows,
+                System.currentTimeMillis() - startTime, MemoryUtils.peakHeapUsedMb());
+        log.info("테이블 내보내기 완료 - {}행, {}ms, {} rows/s, 최대 힙 {}MB", rows, lastExport.getElapsedMs(),
+                String.format("%.0f", lastExport.getRowsPerSec()), lastExport.getPeakHeapUsedMb());
+    }
+
+    // 행 구분은 직접 쓰는 '\n'만 - 기본 루트 값 구분자(공백)가 있으면 둘째 줄부터 앞에 공백이 붙음
+    private JsonGenerator ndjsonGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    /**
+     * 마지막 내보내기 결과
+     */
+    public ExportStats getLastExportStats() {
+        return lastExport;
+    }
+
+    private long exportPages(ExportTable table, int pageSize, RowWriter writer) {
+        String sql = "SELECT " + String.join(", ", table.getColumns()) + " FROM " + table.getTableName()
+                + " WHERE id > ? ORDER BY id LIMIT ?";
+        PageCursor cursor = new PageCursor();
+        long total = 0;
+        do {
+            cursor.rows = 0;
+            jdbcTemplate.query(sql, rs -> {
+                writer.write(rs);
+                cursor.lastId = rs.getLong(1);
+                cursor.rows++;
+            }, cursor.lastId, pageSize);
+            total += cursor.rows;
+        } while (cursor.rows == pageSize);
+        return total;
+    }
+
+    private static final class PageCursor {
+        private long lastId = 0;
+        private int rows;
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(ResultSet rs) throws SQLException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * 행마다 {"컬럼":값,...} 한 줄
+     */
+    private record NdjsonRowWriter(JsonGenerator generator, List<String> columns) implements RowWriter {
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeObjectField(columns.get(i), rs.getObject(i + 1));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * 헤더 한 줄 + 행마다 쉼표 구분 한 줄 (쉼표/따옴표/줄바꿈(CR/LF)이 있는 값은 따옴표로 감쌈)
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final int columnCount;
+
+        private CsvRowWriter(Writer writer, List<String> columns) throws IOException {
+            this.writer = writer;
+            this.columnCount = columns.size();
+            writer.write(String.join(",", columns));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                for (int i = 1; i <= columnCount; i++) {
+                    if (i > 1) {
+                        writer.write(',');
+                    }
+                    Object value = rs.getObject(i);
+                    if (value != null) {
+                        writer.write(escape(value.toString()));
+                    }
+                }
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // 감싼 응답 스트림은 닫지 않고 버퍼만 내보냄
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
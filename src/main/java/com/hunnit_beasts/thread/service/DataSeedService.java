@@ -0,0 +1,176 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.SeedMode;
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.SeedResult;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 대량 테스트 데이터 적재 (수백만 건 규모)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeedService {
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final EntityCacheService entityCacheService;
+    private final UserLookupService userLookupService;
+    private final ProductAnalyticsService productAnalyticsService;
+
+    // 트랜잭션 하나에 넣는 행 수 (실패 시 되돌리는 범위와 undo 로그 크기 제한)
+    private static final int CHUNK_SIZE = 10_000;
+    // flush/clear 주기 - hibernate.jdbc.batch_size와 맞춰 배치 하나씩 전송하고 영속성 컨텍스트를 비움
+    private static final int FLUSH_SIZE = 500;
+    // 네이티브 적재에서 INSERT ... SELECT 한 문장(= 한 트랜잭션)이 넣는 행 수
+    private static final long NATIVE_CHUNK_SIZE = 100_000;
+    // 엔티티의 @SequenceGenerator allocationSize와 같은 값
+    private static final long SEQUENCE_ALLOCATION_SIZE = 50;
+
+    /**
+     * 지정한 방식으로 사용자/상품 적재
+     */
+    public SeedResult seed(SeedMode mode, long userCount, long productCount, int parallelism, boolean reset) {
+        return switch (mode) {
+            case JPA_BATCH -> seedWithJpa(userCount, productCount, reset);
+            case NATIVE -> seedNative(userCount, productCount, parallelism, reset);
+        };
+    }
+
+    /**
+     * JPA persist + JDBC 배치 INSERT로 사용자/상품 적재
+     *
+     * @param reset true면 기존 데이터를 DELETE 한 번으로 비운 뒤 적재
+     */
+    public SeedResult seedWithJpa(long userCount, long productCount, boolean reset) {
+        log.info("JPA 대량 적재 시작 - 사용자: {}, 상품: {}, 초기화: {}", userCount, productCount, reset);
+        long startTime = System.currentTimeMillis();
+
+        if (reset) {
+            deleteAll();
+        }
+        persistInChunks(userCount, i -> new User("사용자" + i, "user" + i + "@example.com"));
+        persistInChunks(productCount, i -> new Product("상품" + i, (double) (1000 * i)));
+        productAnalyticsService.invalidateSnapshot();
+
+        SeedResult result = new SeedResult(SeedMode.JPA_BATCH.name(), userCount, productCount, 1,
+                System.currentTimeMillis() - startTime);
+        log.info("JPA 대량 적재 완료 - {}ms, {} rows/s", result.getElapsedMs(), String.format("%.0f", result.getRowsPerSec()));
+        return result;
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 H2 INSERT ... SELECT FROM SYSTEM_RANGE로 적재
+     * 행 범위를 청크로 나눠 parallelism개의 연결에서 병렬 실행 (청크마다 자동 커밋)
+     */
+    public SeedResult seedNative(long userCount, long productCount, int parallelism, boolean reset) {
+        int workers = Math.max(1, parallelism);
+        log.info("네이티브 대량 적재 시작 - 사용자: {}, 상품: {}, 병렬도: {}", userCount, productCount, workers);
+        long startTime = System.currentTimeMillis();
+
+        if (reset) {
+            deleteAll();
+        }
+        long userBaseId = reserveIds("users_seq", userCount);
+        long productBaseId = reserveIds("product_seq", productCount);
+        insertInParallel(userCount, workers, (from, to) -> jdbcTemplate.update(
+                "INSERT INTO users (id, username, email) "
+                        + "SELECT ? + X, '사용자' || X, 'user' || X || '@example.com' FROM SYSTEM_RANGE(?, ?)",
+                userBaseId, from, to));
+        insertInParallel(productCount, workers, (from, to) -> jdbcTemplate.update(
+                "INSERT INTO product (id, name, price) "
+                        + "SELECT ? + X, '상품' || X, 1000.0 * X FROM SYSTEM_RANGE(?, ?)",
+                productBaseId, from, to));
+
+        // INSERT ... SELECT는 엔티티 콜백을 거치지 않으므로 해시 인덱스/가격 스냅샷은 다음 조회 때 다시 채움
+        userLookupService.invalidateHashIndex();
+        productAnalyticsService.invalidateSnapshot();
+
+        SeedResult result = new SeedResult(SeedMode.NATIVE.name(), userCount, productCount, workers,
+                System.currentTimeMillis() - startTime);
+        log.info("네이티브 대량 적재 완료 - {}ms, {} rows/s", result.getElapsedMs(), String.format("%.0f", result.getRowsPerSec()));
+        return result;
+    }
+
+    /**
+     * 시퀀스를 앞당겨 id 범위 (base, base + count]를 예약하고 base를 반환
+     * - 앞쪽: Hibernate가 이미 받아 둔 블록(최대 allocationSize개)을 한 블록만큼 건너뜀
+     * - 뒤쪽: 예약 구간 뒤로 시퀀스를 재시작해 이후 블록과 겹치지 않음
+     * (같은 시퀀스로 다른 적재가 동시에 돌지 않는다는 전제)
+     */
+    private long reserveIds(String sequenceName, long count) {
+        Long current = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequenceName, Long.class);
+        long base = current + SEQUENCE_ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + (base + count + SEQUENCE_ALLOCATION_SIZE));
+        return base;
+    }
+
+    /**
+     * 1..rowCount를 청크로 나눠 workers개의 가상 스레드가 차례로 가져가 실행
+     */
+    private void insertInParallel(long rowCount, int workers, ChunkInsert chunkInsert) {
+        AtomicLong nextChunkStart = new AtomicLong(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                long from;
+                while ((from = nextChunkStart.getAndAdd(NATIVE_CHUNK_SIZE)) <= rowCount) {
+                    chunkInsert.insert(from, Math.min(rowCount, from + NATIVE_CHUNK_SIZE - 1));
+                }
+            }, virtualThreadExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @FunctionalInterface
+    private interface ChunkInsert {
+        void insert(long from, long to);
+    }
+
+    private void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.deleteAllInBatch();
+            productRepository.deleteAllInBatch();
+        });
+        // 벌크 DELETE는 엔티티 콜백을 거치지 않으므로 캐시/해시 인덱스/가격 스냅샷을 직접 비움
+        entityCacheService.invalidateAll();
+        userLookupService.invalidateHashIndex();
+        productAnalyticsService.invalidateSnapshot();
+    }
+
+    private void persistInChunks(long count, LongFunction<Object> entityFactory) {
+        for (long chunkStart = 1; chunkStart <= count; chunkStart += CHUNK_SIZE) {
+            long from = chunkStart;
+            long to = Math.min(count, chunkStart + CHUNK_SIZE - 1);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (long i = from; i <= to; i++) {
+                    entityManager.persist(entityFactory.apply(i));
+                    if ((i - from + 1) % FLUSH_SIZE == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        }
+    }
+}
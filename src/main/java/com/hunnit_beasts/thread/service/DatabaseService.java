@@ -1,20 +1,57 @@
 package com.hunnit_beasts.thread.service;
 
+import com.hunnit_beasts.thread.model.DbQueryMode;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
 import com.hunnit_beasts.thread.model.Product;
 import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserReadMode;
+import com.hunnit_beasts.thread.model.UserSummary;
 import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.repository.ReactiveUserRepository;
 import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.Bulkhead;
+import com.hunnit_beasts.thread.util.BulkheadStats;
+import com.hunnit_beasts.thread.util.ConnectionPoolStats;
+import com.hunnit_beasts.thread.util.DbIoStats;
+import com.hunnit_beasts.thread.util.DbLatency;
+import com.hunnit_beasts.thread.util.DbLatencyStats;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.MicroBatcher;
+import com.hunnit_beasts.thread.util.MicroBatcherRegistry;
+import com.hunnit_beasts.thread.util.PoolMetricsTracker;
+import com.hunnit_beasts.thread.util.ReadCostStats;
 import com.hunnit_beasts.thread.util.ThreadUtils;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Service
@@ -24,6 +61,27 @@ public class DatabaseService {
 
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final ThreadPoolTaskExecutor platformThreadExecutor;
+    private final HikariDataSource dataSource;
+    private final PoolMetricsTracker poolMetricsTracker;
+    private final EntityCacheService entityCacheService;
+    private final EntityWriteService entityWriteService;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final R2dbcProperties r2dbcProperties;
+    private final UserReadService userReadService;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    // 동시 쿼리 상한별 DB 벌크헤드 (최근 MAX_DB_BULKHEADS개 설정만 유지)
+    private final Map<Integer, Bulkhead> dbBulkheads = new ConcurrentHashMap<>();
+    // 청크 크기/대기 시간/풀 크기별 사용자 다건 조회 배처 (최근에 쓴 설정만 유지)
+    private final MicroBatcherRegistry<Long, User> userBatchers = new MicroBatcherRegistry<>("db-batch", MAX_USER_BATCHERS);
+    private static final int BATCH_QUEUE_CAPACITY = 10_000;
+    private static final int MAX_USER_BATCHERS = 8;
+    private static final int MAX_DB_BULKHEADS = 8;
+    // 요청 파라미터로 받는 동시 쿼리 상한의 최대값
+    private static final int MAX_IN_FLIGHT_LIMIT = 1_000;
+    // 쿼리별 분포(db.latency.queries)가 없을 때 INJECT_LATENCY에 넘기는 기본 지연
     private static final int QUERY_DELAY_MS = 500;
 
     /**
@@ -62,25 +120,174 @@ public class DatabaseService {
         );
     }
 
+    /**
+     * 주입된 DB 지연 누적 통계
+     */
+    public DbLatencyStats getDbLatencyStats() {
+        return DbLatency.stats();
+    }
+
+    /**
+     * 커넥션 풀 최대 크기 변경 (실행 중 적용, 줄이는 경우 반납되는 연결부터 정리)
+     */
+    public void applyPoolSize(int poolSize) {
+        if (poolSize > 0 && poolSize != dataSource.getMaximumPoolSize()) {
+            log.info("커넥션 풀 최대 크기 변경: {} -> {}", dataSource.getMaximumPoolSize(), poolSize);
+            dataSource.getHikariConfigMXBean().setMaximumPoolSize(poolSize);
+        }
+    }
+
+    /**
+     * 커넥션 풀 통계 조회
+     */
+    public ConnectionPoolStats getPoolStats() {
+        return poolMetricsTracker.stats(dataSource.getHikariPoolMXBean(), dataSource.getMaximumPoolSize());
+    }
+
+    /**
+     * 커넥션 풀 최대치(대기 시간, 대기 스레드 수) 초기화
+     */
+    public void resetPoolPeaks() {
+        poolMetricsTracker.resetPeaks();
+    }
+
+    /**
+     * 엔티티 조회 캐시 통계 조회
+     */
+    public EntityCacheStats getEntityCacheStats() {
+        return entityCacheService.stats();
+    }
+
+    /**
+     * 엔티티 조회 캐시 비우기
+     */
+    public void clearEntityCache() {
+        entityCacheService.invalidateAll();
+    }
+
+    /**
+     * 지연 쓰기 배처 통계 조회 (배치 하나 = 커밋 하나)
+     */
+    public WriteBehindStats getWriteBehindStats() {
+        return entityWriteService.getWriteBehindStats();
+    }
+
+    /**
+     * 새 사용자 count명을 가상 스레드로 동시에 저장 - 옵션에 따라 행마다 커밋하거나 지연 쓰기로 모아 커밋
+     * 각 작업의 실행 시간은 커밋 완료까지의 종단 지연
+     */
+    public List<ExecutionResult<User>> batchInsertUsersWithVirtualThread(int count, DbQueryOptions options) {
+        List<CompletableFuture<ExecutionResult<User>>> futures = new ArrayList<>();
+
+        for (long i = 1; i <= count; i++) {
+            long id = i;
+            futures.add(ThreadUtils.executeWithMetrics(
+                    "사용자 저장 (가상) - " + id,
+                    () -> entityWriteService.saveUser(newUser(id), options),
+                    virtualThreadExecutor
+            ));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 새 사용자 count명을 플랫폼 스레드로 동시에 저장
+     */
+    public List<ExecutionResult<User>> batchInsertUsersWithPlatformThread(int count, DbQueryOptions options) {
+        List<CompletableFuture<ExecutionResult<User>>> futures = new ArrayList<>();
+
+        for (long i = 1; i <= count; i++) {
+            long id = i;
+            futures.add(ThreadUtils.executeWithMetrics(
+                    "사용자 저장 (플랫폼) - " + id,
+                    () -> entityWriteService.saveUser(newUser(id), options),
+                    platformThreadExecutor
+            ));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 저장된 사용자 중 무작위 id로 count번 기본 키 조회 (지연 주입 없음)
+     * 캐시보다 큰 테이블이면 조회마다 다른 페이지를 읽어 파일 I/O가 발생
+     */
+    public List<ExecutionResult<User>> randomGetUsers(int count, boolean virtual) {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        List<CompletableFuture<ExecutionResult<User>>> futures = new ArrayList<>();
+
+        for (int i = 1; i <= count; i++) {
+            long id = minId == null ? 1 : ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+            futures.add(ThreadUtils.executeWithMetrics(
+                    "무작위 사용자 조회 (" + (virtual ? "가상" : "플랫폼") + ") - " + id,
+                    () -> userRepository.findById(id).orElse(null),
+                    virtual ? virtualThreadExecutor : platformThreadExecutor
+            ));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * H2 저장소 설정과 파일 I/O 누적치 조회
+     */
+    public DbIoStats getDbIoStats() {
+        Map<String, String> settings = new HashMap<>();
+        jdbcTemplate.query("SELECT SETTING_NAME, SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS",
+                rs -> {
+                    settings.put(rs.getString(1), rs.getString(2));
+                });
+        return DbIoStats.of(settings);
+    }
+
+    /**
+     * 옵션에 해당하는 사용자 다건 조회 배처의 누적 통계 조회
+     */
+    public BatchStats getUserBatchStats(DbQueryOptions options) {
+        // 아직 배치 조회가 없었으면 빈 통계 (조회만으로 배처를 만들지 않음)
+        MicroBatcher<Long, User> batcher = userBatchers.find(userBatcherKey(options));
+        return batcher != null ? batcher.stats() : new BatchStats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        userBatchers.close();
+    }
+
+    /**
+     * DB 벌크헤드 통계 조회
+     */
+    public BulkheadStats getAdmissionStats(DbQueryOptions options) {
+        return dbBulkheadFor(options).stats();
+    }
+
     /**
      * 가상 스레드로 사용자 조회
      */
-    @Async("virtualThreadExecutor")
-    public CompletableFuture<ExecutionResult<User>> getUserWithVirtualThread(Long id) {
+    public CompletableFuture<ExecutionResult<User>> getUserWithVirtualThread(Long id, DbQueryOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "사용자 조회 (가상) - " + id,
-                () -> userRepository.findByIdWithDelay(id, QUERY_DELAY_MS)
+                () -> findUserAndInsert(id, options),
+                virtualThreadExecutor
         );
     }
 
     /**
      * 플랫폼 스레드로 사용자 조회
      */
-    @Async("platformThreadExecutor")
-    public CompletableFuture<ExecutionResult<User>> getUserWithPlatformThread(Long id) {
+    public CompletableFuture<ExecutionResult<User>> getUserWithPlatformThread(Long id, DbQueryOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "사용자 조회 (플랫폼) - " + id,
-                () -> userRepository.findByIdWithDelay(id, QUERY_DELAY_MS)
+                () -> findUserAndInsert(id, options),
+                platformThreadExecutor
         );
     }
 
@@ -88,10 +295,17 @@ public class DatabaseService {
      * 여러 사용자를 가상 스레드로 동시 조회
      */
     public List<ExecutionResult<User>> batchGetUsersWithVirtualThread(int count) {
+        return batchGetUsersWithVirtualThread(count, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 사용자를 가상 스레드로 동시 조회 (옵션 지정)
+     */
+    public List<ExecutionResult<User>> batchGetUsersWithVirtualThread(int count, DbQueryOptions options) {
         List<CompletableFuture<ExecutionResult<User>>> futures = new ArrayList<>();
 
         for (long i = 1; i <= count; i++) {
-            futures.add(getUserWithVirtualThread(i));
+            futures.add(getUserWithVirtualThread(i, options));
         }
 
         return futures.stream()
@@ -103,14 +317,223 @@ public class DatabaseService {
      * 여러 사용자를 플랫폼 스레드로 동시 조회
      */
     public List<ExecutionResult<User>> batchGetUsersWithPlatformThread(int count) {
+        return batchGetUsersWithPlatformThread(count, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 사용자를 플랫폼 스레드로 동시 조회 (옵션 지정)
+     */
+    public List<ExecutionResult<User>> batchGetUsersWithPlatformThread(int count, DbQueryOptions options) {
         List<CompletableFuture<ExecutionResult<User>>> futures = new ArrayList<>();
 
         for (long i = 1; i <= count; i++) {
-            futures.add(getUserWithPlatformThread(i));
+            futures.add(getUserWithPlatformThread(i, options));
         }
 
         return futures.stream()
                 .map(CompletableFuture::join)
                 .toList();
     }
+
+    /**
+     * 사용자 목록을 지정한 방식으로 키셋 페이지 단위로 읽고 직렬화하며 CPU 시간/할당량 측정
+     * 스레드별 CPU 시간/할당량은 가상 스레드에서 측정되지 않으므로 플랫폼 스레드에서 실행
+     */
+    public ReadCostStats readUsers(UserReadMode mode, int rows, int pageSize) {
+        return CompletableFuture.supplyAsync(() -> measureRead(mode, rows, pageSize), platformThreadExecutor).join();
+    }
+
+    private ReadCostStats measureRead(UserReadMode mode, int rows, int pageSize) {
+        long startTime = System.currentTimeMillis();
+        long cpuBefore = ThreadUtils.currentThreadCpuNanos();
+        long allocatedBefore = ThreadUtils.currentThreadAllocatedBytes();
+
+        long read = 0;
+        long afterId = 0;
+        while (read < rows) {
+            int size = (int) Math.min(pageSize, rows - read);
+            List<?> page = switch (mode) {
+                case ENTITY -> userReadService.readEntityPage(afterId, size);
+                case ENTITY_READ_ONLY -> userReadService.readEntityPageReadOnly(afterId, size);
+                case PROJECTION -> userReadService.readSummaryPage(afterId, size);
+            };
+            if (page.isEmpty()) {
+                break;
+            }
+            // 조회 결과는 응답으로 직렬화만 되므로 직렬화 비용까지 포함
+            serialize(page);
+            read += page.size();
+            Object last = page.get(page.size() - 1);
+            afterId = last instanceof User user ? user.getId() : ((UserSummary) last).id();
+        }
+
+        ReadCostStats stats = new ReadCostStats(mode.name(), read, pageSize,
+                System.currentTimeMillis() - startTime,
+                ThreadUtils.currentThreadCpuNanos() - cpuBefore,
+                ThreadUtils.currentThreadAllocatedBytes() - allocatedBefore);
+        log.info("사용자 목록 읽기 ({}) - {}행, 행당 CPU {}µs, 행당 할당 {}B", mode, read,
+                String.format("%.2f", stats.getCpuMicrosPerRow()), String.format("%.0f", stats.getAllocatedBytesPerRow()));
+        return stats;
+    }
+
+    private void serialize(List<?> page) {
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 여러 사용자를 R2DBC로 논블로킹 조회 (동시 처리 수 제한)
+     * 조회는 리액터 스레드에서 진행되고 호출 스레드는 전체 완료만 기다림
+     */
+    public List<ExecutionResult<User>> batchGetUsersReactive(int count, DbQueryOptions options) {
+        int concurrency = options.getReactiveConcurrency() > 0
+                ? options.getReactiveConcurrency() : r2dbcProperties.getPool().getMaxSize();
+        return Flux.range(1, count)
+                .flatMapSequential(i -> findUserReactive((long) i, options), concurrency)
+                .collectList()
+                .block();
+    }
+
+    private Mono<ExecutionResult<User>> findUserReactive(Long id, DbQueryOptions options) {
+        return Mono.defer(() -> {
+            String taskName = "사용자 조회 (리액티브) - " + id;
+            long startTime = System.currentTimeMillis();
+            return reactiveUserRepository.findByIdWithDelay(id, QUERY_DELAY_MS)
+                    .singleOptional()
+                    .flatMap(found -> options.isInsert()
+                            ? reactiveUserRepository.insert(newUser(id)).thenReturn(found)
+                            : Mono.just(found))
+                    .map(found -> reactiveResult(taskName, startTime, found.orElse(null), null))
+                    .onErrorResume(e -> Mono.just(reactiveResult(taskName, startTime, null, e)));
+        });
+    }
+
+    /**
+     * 리액티브 조회 결과를 스레드 실행 결과와 같은 형태로 기록 (스레드는 완료를 처리한 리액터 스레드)
+     */
+    private static ExecutionResult<User> reactiveResult(String taskName, long startTime, User user, Throwable error) {
+        ExecutionResult<User> result = new ExecutionResult<>();
+        result.setTaskName(taskName);
+        result.setThreadName(Thread.currentThread().getName());
+        result.setThreadId(Thread.currentThread().threadId());
+        result.setVirtualThread(Thread.currentThread().isVirtual());
+        result.setSuccess(error == null);
+        result.setResult(user);
+        if (error != null) {
+            result.setErrorMessage(error.getMessage());
+            log.error("작업 {} 실행 중 오류 발생: {}", taskName, error.getMessage());
+        }
+        result.setExecutionTimeMs(System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    /**
+     * 사용자 조회 후, 옵션에 따라 새 사용자 저장
+     */
+    private User findUserAndInsert(Long id, DbQueryOptions options) {
+        User user = findUser(id, options);
+        if (options.isInsert()) {
+            entityWriteService.saveUser(newUser(id), options);
+        }
+        return user;
+    }
+
+    private static User newUser(Long id) {
+        return new User("조회후저장사용자" + id, "insert" + id + "@example.com");
+    }
+
+    /**
+     * 사용자 조회 - 엔티티 캐시를 켜면 미스일 때만 DB를 조회
+     */
+    private User findUser(Long id, DbQueryOptions options) {
+        if (options.isEntityCache()) {
+            return entityCacheService.getUser(id, key -> loadUser(key, options));
+        }
+        return loadUser(id, options);
+    }
+
+    /**
+     * DB에서 사용자 조회 - 배치 모드면 배처에 맡겨 다른 요청과 함께 IN 쿼리로 조회하고 결과를 기다림
+     */
+    private User loadUser(Long id, DbQueryOptions options) {
+        if (options.getQueryMode() == DbQueryMode.BATCHED) {
+            return userBatchers.submit(userBatcherKey(options), userBatcherFactory(options), id).join();
+        }
+        return admit(options, () -> userRepository.findByIdWithDelay(id, QUERY_DELAY_MS));
+    }
+
+    /**
+     * 청크 하나를 IN 쿼리 한 번으로 조회한 뒤 요청 순서대로 결과를 배치 (없는 id는 null)
+     */
+    private List<User> loadUsers(List<Long> ids, DbQueryOptions options) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, User> usersById = admit(options,
+                () -> userRepository.findAllByIdWithDelay(distinctIds, QUERY_DELAY_MS)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream().map(usersById::get).toList();
+    }
+
+    /**
+     * 쿼리 실행 - 입장 제어를 켜면 커넥션 풀 크기만큼만 동시에 쿼리하고 나머지는 벌크헤드에서 대기
+     * (Hikari 대기열에서 connectionTimeout을 소모하며 기다리는 대신 공정 세마포어에서 대기)
+     */
+    private <T> T admit(DbQueryOptions options, Supplier<T> query) {
+        poolMetricsTracker.samplePendingThreads(dataSource.getHikariPoolMXBean());
+        if (!options.isAdmission()) {
+            return query.get();
+        }
+        return dbBulkheadFor(options).execute(query);
+    }
+
+    // 입장 제어 설정도 처리 함수에 포함되므로 키에 함께 반영
+    // 동시 청크 수는 만들 때의 풀 크기로 고정되므로 applyPoolSize로 바뀌면 새 배처를 쓰도록 풀 크기도 포함
+    private String userBatcherKey(DbQueryOptions options) {
+        return options.getChunkSize() + ":" + options.getLingerMs()
+                + ":" + options.isAdmission() + ":" + admissionLimit(options)
+                + ":" + dataSource.getMaximumPoolSize();
+    }
+
+    private Function<String, MicroBatcher<Long, User>> userBatcherFactory(DbQueryOptions options) {
+        DbQueryOptions batchOptions = copyOf(options);
+        int poolSize = dataSource.getMaximumPoolSize();
+        return key -> new MicroBatcher<>(
+                "db-batch-" + key,
+                batchOptions.getChunkSize(),
+                Duration.ofMillis(batchOptions.getLingerMs()),
+                BATCH_QUEUE_CAPACITY,
+                // 동시에 처리하는 청크 수는 커넥션 풀 크기로 제한
+                poolSize,
+                ids -> loadUsers(ids, batchOptions));
+    }
+
+    private static DbQueryOptions copyOf(DbQueryOptions options) {
+        DbQueryOptions copy = new DbQueryOptions();
+        copy.setAdmission(options.isAdmission());
+        copy.setMaxInFlight(options.getMaxInFlight());
+        copy.setQueryMode(options.getQueryMode());
+        copy.setChunkSize(options.getChunkSize());
+        copy.setLingerMs(options.getLingerMs());
+        return copy;
+    }
+
+    /**
+     * 설정값별 벌크헤드 조회 - 보관 개수를 넘으면 지금 설정 외의 항목을 버림
+     * 버린 벌크헤드를 쥔 진행 중 쿼리는 그대로 끝나고, 이후 쿼리는 새 벌크헤드를 사용
+     */
+    private Bulkhead dbBulkheadFor(DbQueryOptions options) {
+        int maxInFlight = admissionLimit(options);
+        Bulkhead bulkhead = dbBulkheads.computeIfAbsent(maxInFlight, limit -> new Bulkhead("db", limit));
+        if (dbBulkheads.size() > MAX_DB_BULKHEADS) {
+            dbBulkheads.keySet().removeIf(limit -> limit != maxInFlight);
+        }
+        return bulkhead;
+    }
+
+    private int admissionLimit(DbQueryOptions options) {
+        int maxInFlight = options.getMaxInFlight() > 0 ? options.getMaxInFlight() : dataSource.getMaximumPoolSize();
+        return Math.min(maxInFlight, MAX_IN_FLIGHT_LIMIT);
+    }
 }
\ No newline at end of file
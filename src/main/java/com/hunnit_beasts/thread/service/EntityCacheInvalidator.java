@@ -0,0 +1,28 @@
+package com.hunnit_beasts.thread.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 수정/삭제 시 읽기 캐시를 무효화하는 JPA 엔티티 리스너
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 연결하므로 빈으로 생성되어 주입을 받음
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    private final EntityCacheService entityCacheService;
+
+    // EntityManagerFactory 초기화 중에 생성될 수 있으므로 캐시 서비스는 지연 주입
+    public EntityCacheInvalidator(@Lazy EntityCacheService entityCacheService) {
+        this.entityCacheService = entityCacheService;
+    }
+
+    // 새로 저장된 엔티티는 캐시에 있을 수 없으므로(조회 결과가 없으면 캐시하지 않음) 수정/삭제만 처리
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        entityCacheService.invalidate(entity);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
+import com.hunnit_beasts.thread.util.TtlLruCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 사용자/상품 조회 앞단의 read-through 캐시
+ * - 미스일 때만 loader(리포지토리 조회)를 실행하고, 조회 결과가 없으면 캐시하지 않음
+ * - 수정/삭제는 EntityCacheInvalidator가 JPA 콜백에서 무효화
+ * - 캐시된 엔티티는 영속성 컨텍스트 밖의 공유 인스턴스이므로 호출자는 읽기 용도로만 사용
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EntityCacheService {
+
+    private final TtlLruCache<Long, User> userCache;
+    private final TtlLruCache<Long, Product> productCache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public User getUser(Long id, Function<Long, User> loader) {
+        return userCache.getOrLoad(id, loader);
+    }
+
+    public Product getProduct(Long id, Function<Long, Product> loader) {
+        return productCache.getOrLoad(id, loader);
+    }
+
+    /**
+     * 엔티티 변경 시 해당 id 항목 무효화
+     */
+    public void invalidate(Object entity) {
+        if (entity instanceof User user && user.getId() != null) {
+            userCache.invalidate(user.getId());
+            invalidations.increment();
+        } else if (entity instanceof Product product && product.getId() != null) {
+            productCache.invalidate(product.getId());
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 엔티티 콜백을 거치지 않는 벌크 변경(deleteAllInBatch, 네이티브 INSERT) 후 전체 무효화
+     */
+    public void invalidateAll() {
+        userCache.invalidateAll();
+        productCache.invalidateAll();
+        log.info("엔티티 캐시 전체 무효화");
+    }
+
+    public EntityCacheStats stats() {
+        return new EntityCacheStats(userCache.stats(), productCache.stats(), invalidations.sum());
+    }
+}
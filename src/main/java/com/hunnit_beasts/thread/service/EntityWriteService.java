@@ -0,0 +1,48 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.DbQueryOptions;
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.MicroBatcher;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자/상품 저장 - 옵션에 따라 행마다 트랜잭션 하나로 저장하거나, 지연 쓰기 배처에 맡기고 커밋을 기다림
+ * 이미 트랜잭션 안이면 지연 쓰기를 쓰지 않고 그 트랜잭션에 참여 (다른 트랜잭션에서 커밋되면 원자성이 깨짐)
+ */
+@Service
+@RequiredArgsConstructor
+public class EntityWriteService {
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final MicroBatcher<User, User> userWriteBehind;
+    private final MicroBatcher<Product, Product> productWriteBehind;
+
+    public User saveUser(User user, DbQueryOptions options) {
+        if (useWriteBehind(options)) {
+            return userWriteBehind.submit(user).join();
+        }
+        return userRepository.save(user);
+    }
+
+    public Product saveProduct(Product product, DbQueryOptions options) {
+        if (useWriteBehind(options)) {
+            return productWriteBehind.submit(product).join();
+        }
+        return productRepository.save(product);
+    }
+
+    public WriteBehindStats getWriteBehindStats() {
+        return new WriteBehindStats(userWriteBehind.stats(), productWriteBehind.stats());
+    }
+
+    private static boolean useWriteBehind(DbQueryOptions options) {
+        return options.isWriteBehind() && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
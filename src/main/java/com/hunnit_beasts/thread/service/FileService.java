@@ -1,22 +1,36 @@
 package com.hunnit_beasts.thread.service;
 
+import com.hunnit_beasts.thread.model.FileWriteMode;
+import com.hunnit_beasts.thread.model.FileWriteOptions;
+import com.hunnit_beasts.thread.util.BufferPoolStats;
+import com.hunnit_beasts.thread.util.DirectBufferPool;
 import com.hunnit_beasts.thread.util.ExecutionResult;
 import com.hunnit_beasts.thread.util.ThreadUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
@@ -24,8 +38,31 @@ public class FileService {
 
     private static final Path BASE_DIR = Paths.get(System.getProperty("java.io.tmpdir"), "virtual-threads-test");
     private static final int DEFAULT_FILE_SIZE_KB = 100;
+    // 파일 내용의 반복 단위 - 한 줄 44자(한글 3바이트) 줄들을 ASCII로 채워 정확히 1KB
+    private static final int BLOCK_SIZE = 1024;
+    private static final byte[] CONTENT_BLOCK = buildContentBlock();
+    // 이 크기 이하의 내용만, 최대 개수까지 크기별로 캐시 (나머지는 요청마다 블록을 이어 붙임)
+    private static final int MAX_CACHED_SIZE_KB = 16 * 1024;
+    private static final int MAX_CACHED_SIZES = 16;
+    // 요청 파라미터로 받는 쓰기 옵션의 상한 (다이렉트 메모리 최대 MAX_CHUNK_KB x MAX_POOL_BUFFERS = 512MB)
+    private static final int MAX_CHUNK_KB = 4 * 1024;
+    private static final int MAX_POOL_BUFFERS = 128;
+    private static final int MAX_HEAP_WRITES = 64;
 
-    public FileService() {
+    // 크기(KB)별 파일 내용 - 모든 쓰기가 같은 배열을 읽기만 하므로 공유
+    private final Map<Integer, byte[]> contentCache = new ConcurrentHashMap<>();
+    // 마지막으로 쓴 청크 크기/최대 버퍼 수의 다이렉트 버퍼 풀 하나만 유지
+    // 설정이 바뀌면 이전 풀은 버리고, 빌려 간 버퍼가 반납된 뒤 풀과 함께 GC로 해제됨
+    private final AtomicReference<Keyed<DirectBufferPool>> bufferPool = new AtomicReference<>();
+    // 마지막으로 쓴 동시 HEAP 쓰기 수의 허가 - 가상 스레드 수만큼 파일 내용이 힙에 동시에 올라가지 않도록 제한
+    private final AtomicReference<Keyed<Semaphore>> heapWritePermits = new AtomicReference<>();
+
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final ThreadPoolTaskExecutor platformThreadExecutor;
+
+    public FileService(AsyncTaskExecutor virtualThreadExecutor, ThreadPoolTaskExecutor platformThreadExecutor) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.platformThreadExecutor = platformThreadExecutor;
         try {
             if (!Files.exists(BASE_DIR)) {
                 Files.createDirectories(BASE_DIR);
@@ -43,8 +80,7 @@ public class FileService {
         Path filePath = BASE_DIR.resolve(fileName);
 
         try {
-            String content = generateContent(sizeKb);
-            Files.writeString(filePath, content, StandardCharsets.UTF_8);
+            Files.write(filePath, generateContent(sizeKb));
             log.info("파일이 생성되었습니다: {}, 크기: {}KB", filePath, sizeKb);
             return filePath.toString();
         } catch (IOException e) {
@@ -100,34 +136,36 @@ public class FileService {
     /**
      * 가상 스레드로 파일 쓰기
      */
-    @Async("virtualThreadExecutor")
     public CompletableFuture<ExecutionResult<String>> writeFileWithVirtualThread(int sizeKb) {
+        return writeFileWithVirtualThread(sizeKb, new FileWriteOptions());
+    }
+
+    /**
+     * 가상 스레드로 파일 쓰기 (쓰기 방식 지정)
+     */
+    public CompletableFuture<ExecutionResult<String>> writeFileWithVirtualThread(int sizeKb, FileWriteOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "파일 쓰기 (가상) - " + sizeKb + "KB",
-                () -> {
-                    String fileName = "virtual-" + UUID.randomUUID() + ".txt";
-                    Path filePath = BASE_DIR.resolve(fileName);
-                    String content = generateContent(sizeKb);
-                    Files.writeString(filePath, content, StandardCharsets.UTF_8);
-                    return fileName;
-                }
+                () -> writeNewFile("virtual-", sizeKb, options),
+                virtualThreadExecutor
         );
     }
 
     /**
      * 플랫폼 스레드로 파일 쓰기
      */
-    @Async("platformThreadExecutor")
     public CompletableFuture<ExecutionResult<String>> writeFileWithPlatformThread(int sizeKb) {
+        return writeFileWithPlatformThread(sizeKb, new FileWriteOptions());
+    }
+
+    /**
+     * 플랫폼 스레드로 파일 쓰기 (쓰기 방식 지정)
+     */
+    public CompletableFuture<ExecutionResult<String>> writeFileWithPlatformThread(int sizeKb, FileWriteOptions options) {
         return ThreadUtils.executeWithMetrics(
                 "파일 쓰기 (플랫폼) - " + sizeKb + "KB",
-                () -> {
-                    String fileName = "platform-" + UUID.randomUUID() + ".txt";
-                    Path filePath = BASE_DIR.resolve(fileName);
-                    String content = generateContent(sizeKb);
-                    Files.writeString(filePath, content, StandardCharsets.UTF_8);
-                    return fileName;
-                }
+                () -> writeNewFile("platform-", sizeKb, options),
+                platformThreadExecutor
         );
     }
 
@@ -135,14 +173,21 @@ public class FileService {
      * 여러 파일을 가상 스레드로 처리
      */
     public List<ExecutionResult<String>> batchProcessFilesWithVirtualThread(int count, int sizeKb) {
+        return batchProcessFilesWithVirtualThread(count, sizeKb, new FileWriteOptions());
+    }
+
+    /**
+     * 여러 파일을 가상 스레드로 처리 (쓰기 방식 지정)
+     */
+    public List<ExecutionResult<String>> batchProcessFilesWithVirtualThread(int count, int sizeKb, FileWriteOptions options) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 0; i < count; i++) {
-            futures.add(writeFileWithVirtualThread(sizeKb));
+            futures.add(writeFileWithVirtualThread(sizeKb, options));
         }
 
         return futures.stream()
-                .map(CompletableFuture::join)
+                .map(FileService::joinResult)
                 .toList();
     }
 
@@ -150,29 +195,187 @@ public class FileService {
      * 여러 파일을 플랫폼 스레드로 처리
      */
     public List<ExecutionResult<String>> batchProcessFilesWithPlatformThread(int count, int sizeKb) {
+        return batchProcessFilesWithPlatformThread(count, sizeKb, new FileWriteOptions());
+    }
+
+    /**
+     * 여러 파일을 플랫폼 스레드로 처리 (쓰기 방식 지정)
+     */
+    public List<ExecutionResult<String>> batchProcessFilesWithPlatformThread(int count, int sizeKb, FileWriteOptions options) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 0; i < count; i++) {
-            futures.add(writeFileWithPlatformThread(sizeKb));
+            futures.add(writeFileWithPlatformThread(sizeKb, options));
         }
 
         return futures.stream()
-                .map(CompletableFuture::join)
+                .map(FileService::joinResult)
                 .toList();
     }
 
     /**
-     * 테스트용 파일 내용 생성
+     * 옵션에 해당하는 다이렉트 버퍼 풀의 누적 통계 조회
+     */
+    public BufferPoolStats getBufferPoolStats(FileWriteOptions options) {
+        return bufferPoolFor(options).stats();
+    }
+
+    /**
+     * 배치 처리로 만든 파일 삭제 (대용량 비교 실행 사이에 디스크를 비우기 위해 사용)
+     */
+    public void deleteFiles(List<ExecutionResult<String>> results) {
+        for (ExecutionResult<String> result : results) {
+            if (result.isSuccess() && result.getResult() != null) {
+                try {
+                    Files.deleteIfExists(BASE_DIR.resolve(result.getResult()));
+                } catch (IOException e) {
+                    log.warn("파일 삭제 실패: {}, {}", result.getResult(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 작업 하나가 Exception 밖의 오류(OutOfMemoryError 등)로 끝나도 실패 결과로 바꿔
+     * 배치 전체가 예외로 끝나지 않게 함 (다른 작업이 만든 파일을 호출자가 삭제할 수 있도록)
+     */
+    private static ExecutionResult<String> joinResult(CompletableFuture<ExecutionResult<String>> future) {
+        return future.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("파일 쓰기 작업 실패: {}", cause.toString());
+            ExecutionResult<String> failed = new ExecutionResult<>();
+            failed.setSuccess(false);
+            failed.setErrorMessage(cause.toString());
+            return failed;
+        }).join();
+    }
+
+    private String writeNewFile(String prefix, int sizeKb, FileWriteOptions options) throws IOException, InterruptedException {
+        String fileName = prefix + UUID.randomUUID() + ".txt";
+        Path filePath = BASE_DIR.resolve(fileName);
+        try {
+            if (options.getMode() == FileWriteMode.CHANNEL) {
+                writeWithChannel(filePath, sizeKb, options);
+            } else {
+                writeWithHeap(filePath, sizeKb, options);
+            }
+        } catch (Exception | Error e) {
+            // 결과에 이름이 남지 않으므로 쓰다 만 파일은 여기서 삭제
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+        return fileName;
+    }
+
+    /**
+     * 파일 내용 전체를 힙 byte[]로 두고 한 번에 기록 - 동시에 maxHeapWrites개까지만
      */
-    private String generateContent(int sizeKb) {
-        int lineLength = 100; // 한 줄의 문자 수
-        int linesCount = sizeKb * 10; // 각 라인이 약 100 바이트라고 가정
+    private void writeWithHeap(Path filePath, int sizeKb, FileWriteOptions options) throws IOException, InterruptedException {
+        int maxHeapWrites = clamp(options.getMaxHeapWrites(), MAX_HEAP_WRITES);
+        Semaphore permits = latest(heapWritePermits, String.valueOf(maxHeapWrites), () -> new Semaphore(maxHeapWrites));
+        permits.acquire();
+        try {
+            Files.write(filePath, generateContent(sizeKb));
+        } finally {
+            permits.release();
+        }
+    }
 
-        return IntStream.range(0, linesCount)
-                .mapToObj(i -> "라인 " + i + ": " +
-                        IntStream.range(0, lineLength - 10)
-                                .mapToObj(j -> String.valueOf((char) ('가' + (j % 44))))
-                                .collect(Collectors.joining()))
-                .collect(Collectors.joining("\n"));
+    /**
+     * 풀에서 빌린 다이렉트 버퍼 하나를 파일 끝까지 반복 기록
+     * 버퍼 내용은 1KB 블록을 이어 붙인 고정 패턴이므로 만들 때 한 번만 채우고, 마지막 청크는 limit로 자름
+     */
+    private void writeWithChannel(Path filePath, int sizeKb, FileWriteOptions options) throws IOException, InterruptedException {
+        DirectBufferPool pool = bufferPoolFor(options);
+        ByteBuffer buffer = pool.acquire();
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long remaining = (long) sizeKb * BLOCK_SIZE;
+            while (remaining > 0) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                while (buffer.hasRemaining()) {
+                    remaining -= channel.write(buffer);
+                }
+            }
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    private DirectBufferPool bufferPoolFor(FileWriteOptions options) {
+        int chunkKb = clamp(options.getChunkKb(), MAX_CHUNK_KB);
+        int maxBuffers = clamp(options.getMaxBuffers(), MAX_POOL_BUFFERS);
+        return latest(bufferPool, chunkKb + ":" + maxBuffers, () -> new DirectBufferPool(
+                chunkKb * BLOCK_SIZE,
+                maxBuffers,
+                FileService::fillWithContentBlock));
+    }
+
+    // 키가 같으면 기존 값을, 다르면 새로 만들어 교체 (경합 시 만든 값이 버려질 수 있으나 생성 비용이 작음)
+    private static <V> V latest(AtomicReference<Keyed<V>> holder, String key, Supplier<V> factory) {
+        return holder.updateAndGet(current -> current != null && current.key().equals(key)
+                ? current
+                : new Keyed<>(key, factory.get())).value();
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.min(max, Math.max(1, value));
+    }
+
+    private record Keyed<V>(String key, V value) {
+    }
+
+    // 청크 크기가 블록 크기의 배수이므로 청크 경계에서도 문자가 잘리지 않음
+    private static void fillWithContentBlock(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            buffer.put(CONTENT_BLOCK, 0, Math.min(BLOCK_SIZE, buffer.remaining()));
+        }
+    }
+
+    /**
+     * 테스트용 파일 내용 - UTF-8로 한 번 인코딩한 1KB 블록을 sizeKb번 이어 붙인 바이트 (크기별 캐시)
+     * 반환 배열은 캐시와 공유하므로 수정하면 안 됨
+     */
+    private byte[] generateContent(int sizeKb) {
+        byte[] cached = contentCache.get(sizeKb);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] content = tileContent(sizeKb);
+        if (sizeKb <= MAX_CACHED_SIZE_KB && contentCache.size() < MAX_CACHED_SIZES) {
+            cached = contentCache.putIfAbsent(sizeKb, content);
+        }
+        return cached != null ? cached : content;
+    }
+
+    // 채운 앞부분을 뒤로 복사해 두 배씩 늘림 (복사 횟수 log2(sizeKb))
+    private static byte[] tileContent(int sizeKb) {
+        byte[] content = new byte[Math.multiplyExact(Math.max(0, sizeKb), BLOCK_SIZE)];
+        if (content.length == 0) {
+            return content;
+        }
+        System.arraycopy(CONTENT_BLOCK, 0, content, 0, BLOCK_SIZE);
+        for (int filled = BLOCK_SIZE; filled < content.length; filled *= 2) {
+            System.arraycopy(content, 0, content, filled, Math.min(filled, content.length - filled));
+        }
+        return content;
+    }
+
+    private static byte[] buildContentBlock() {
+        StringBuilder line = new StringBuilder();
+        for (int j = 0; j < 44; j++) {
+            line.append((char) ('가' + j));
+        }
+        byte[] lineBytes = line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+
+        // 남는 자리는 ASCII로 채워 블록 경계에서 멀티바이트 문자가 잘리지 않게 함
+        byte[] block = new byte[BLOCK_SIZE];
+        int pos = 0;
+        for (; pos + lineBytes.length <= BLOCK_SIZE; pos += lineBytes.length) {
+            System.arraycopy(lineBytes, 0, block, pos, lineBytes.length);
+        }
+        Arrays.fill(block, pos, BLOCK_SIZE - 1, (byte) '-');
+        block[BLOCK_SIZE - 1] = '\n';
+        return block;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,529 @@
+package com.hunnit_beasts.thread.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hunnit_beasts.thread.config.ApiClientProperties;
+import com.hunnit_beasts.thread.model.ApiBackend;
+import com.hunnit_beasts.thread.model.ApiCallOptions;
+import com.hunnit_beasts.thread.model.ApiProtocol;
+import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.ListDecodeMode;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.Bulkhead;
+import com.hunnit_beasts.thread.util.CacheStats;
+import com.hunnit_beasts.thread.util.CircuitBreaker;
+import com.hunnit_beasts.thread.util.CircuitOpenException;
+import com.hunnit_beasts.thread.util.HedgeStats;
+import com.hunnit_beasts.thread.util.HedgingExecutor;
+import com.hunnit_beasts.thread.util.LatencyTracker;
+import com.hunnit_beasts.thread.util.MicroBatcher;
+import com.hunnit_beasts.thread.util.MicroBatcherRegistry;
+import com.hunnit_beasts.thread.util.OutboundLimitStats;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.RetryPolicy;
+import com.hunnit_beasts.thread.util.SingleFlight;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
+import com.hunnit_beasts.thread.util.TokenBucketRateLimiter;
+import com.hunnit_beasts.thread.util.TtlLruCache;
+import com.hunnit_beasts.thread.util.UpstreamStatusException;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글(posts) API 클라이언트 - WebClient / JDK HttpClient 백엔드 전환 지원
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostApiClient {
+
+    private final WebClient apiWebClient;
+    private final WebClient apiH2cWebClient;
+    private final HttpClient apiHttpClient;
+    private final HttpClient apiH2cHttpClient;
+    private final ObjectMapper objectMapper;
+    private final ApiClientProperties properties;
+    private final TtlLruCache<Integer, ApiResponse> apiResponseCache;
+    private final CircuitBreaker apiCircuitBreaker;
+    private final RetryPolicy apiRetryPolicy;
+    private final SingleFlight<Integer, ApiResponse> inFlightPosts = new SingleFlight<>();
+    // 백엔드/프로토콜/기한/배치 크기/대기 시간 조합별 배처 (최근에 쓴 조합만 유지)
+    private final MicroBatcherRegistry<Integer, ApiResponse> batchers = new MicroBatcherRegistry<>("api-batch", MAX_BATCHERS);
+    // 백엔드 응답 시간(최근 1024건)의 p95를 헤지 지연으로 사용
+    private final LatencyTracker backendLatency = new LatencyTracker(1024, 95);
+    private final HedgingExecutor hedging = new HedgingExecutor(backendLatency);
+    // 동시성 한도/초당 허가 수별 벌크헤드와 속도 제한기 (각각 최근 MAX_LIMITERS개 설정만 유지)
+    private final Map<Integer, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<Integer, TokenBucketRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder upstreamFailures = new LongAdder();
+
+    private static final int BATCH_QUEUE_CAPACITY = 10_000;
+    private static final int MAX_CONCURRENT_BATCHES = 16;
+    private static final int MAX_BATCHERS = 8;
+    // 요청 파라미터로 받는 한도의 상한과 설정별 보관 개수
+    private static final int MAX_CONCURRENCY_LIMIT = 10_000;
+    private static final int MAX_RATE_PER_SECOND = 100_000;
+    private static final int MAX_LIMITERS = 8;
+    private static final ParameterizedTypeReference<List<ApiResponse>> POST_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final TypeReference<List<ApiResponse>> POST_LIST_JSON_TYPE = new TypeReference<>() {};
+
+    /**
+     * 옵션에 따라 게시글 하나를 조회
+     * 캐시(read-through) → 동시 호출 병합 → 재시도/회로 차단 → 기한/헤지 → 실제 HTTP 호출 순서로 적용
+     */
+    public ApiResponse fetchPost(int id, ApiCallOptions options) {
+        if (options.isCache()) {
+            return apiResponseCache.getOrLoad(id, key -> fetchCoalesced(key, options));
+        }
+        return fetchCoalesced(id, options);
+    }
+
+    /**
+     * 여러 게시글을 다건 조회 한 번으로 가져옴 (?id=1&id=2...)
+     * 응답 순서와 무관하게 id로 다시 매핑하며, 없는 id는 null
+     * 단건 조회와 같이 프로토콜(HTTP/1.1, H2C)에 맞는 클라이언트와 호출 기한(timeout, null이면 없음)을 적용
+     */
+    public List<ApiResponse> fetchPosts(List<Integer> ids, ApiBackend backend, ApiProtocol protocol, Duration timeout) {
+        List<ApiResponse> responses = switch (backend) {
+            case WEBCLIENT -> {
+                Mono<List<ApiResponse>> response = (protocol == ApiProtocol.H2C ? apiH2cWebClient : apiWebClient).get()
+                        .uri(builder -> builder.path("/posts").queryParam("id", ids).build())
+                        .retrieve()
+                        .bodyToMono(POST_LIST_TYPE);
+                yield timeout != null ? response.block(timeout) : response.block();
+            }
+            case HTTP_CLIENT_SYNC, HTTP_CLIENT_ASYNC -> fetchPostsWithHttpClient(ids, protocol, timeout);
+        };
+
+        Map<Long, ApiResponse> byId = responses == null ? Map.of() : responses.stream()
+                .collect(Collectors.toMap(ApiResponse::getId, Function.identity(), (first, second) -> first));
+        return ids.stream()
+                .map(id -> byId.get((long) id))
+                .toList();
+    }
+
+    /**
+     * 게시글 목록 전체(/posts?limit=N)를 지정한 방식으로 디코딩해 하나씩 consumer에 전달
+     */
+    public void fetchAllPosts(int limit, ListDecodeMode mode, Consumer<ApiResponse> consumer) {
+        switch (mode) {
+            case BUFFERED_LIST -> {
+                List<ApiResponse> posts = apiWebClient.get()
+                        .uri(builder -> builder.path("/posts").queryParam("limit", limit).build())
+                        .retrieve()
+                        .bodyToMono(POST_LIST_TYPE)
+                        .block();
+                if (posts != null) {
+                    posts.forEach(consumer);
+                }
+            }
+            case FLUX -> apiWebClient.get()
+                    .uri(builder -> builder.path("/posts").queryParam("limit", limit).build())
+                    .retrieve()
+                    .bodyToFlux(ApiResponse.class)
+                    .doOnNext(consumer)
+                    .blockLast();
+            case JACKSON_STREAMING -> streamPostsWithHttpClient(limit, consumer);
+        }
+    }
+
+    /**
+     * 업스트림(로컬 스텁)이 집계한 연결/스트림 통계 조회 - 스텁이 아니면 null
+     */
+    public StubTrafficStats upstreamTrafficStats() {
+        try {
+            return apiWebClient.get()
+                    .uri("/stats")
+                    .retrieve()
+                    .bodyToMono(StubTrafficStats.class)
+                    .block(Duration.ofSeconds(5));
+        } catch (RuntimeException e) {
+            log.warn("업스트림 트래픽 통계를 조회할 수 없습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 업스트림(로컬 스텁) 트래픽 통계 초기화
+     */
+    public void resetUpstreamTrafficStats() {
+        try {
+            apiWebClient.delete()
+                    .uri("/stats")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(Duration.ofSeconds(5));
+        } catch (RuntimeException e) {
+            log.warn("업스트림 트래픽 통계를 초기화할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    public SingleFlightStats coalescingStats() {
+        return inFlightPosts.stats();
+    }
+
+    /**
+     * 옵션(백엔드, 프로토콜, 기한, 배치 크기, 대기 시간)에 해당하는 배처의 누적 통계
+     */
+    public BatchStats batchStats(ApiCallOptions options) {
+        // 아직 배치 호출이 없었으면 빈 통계 (조회만으로 배처를 만들지 않음)
+        MicroBatcher<Integer, ApiResponse> batcher = batchers.find(batcherKey(options));
+        return batcher != null ? batcher.stats() : new BatchStats();
+    }
+
+    public HedgeStats hedgeStats() {
+        return hedging.stats();
+    }
+
+    /**
+     * 옵션(동시성 한도, 초당 허가 수)에 해당하는 벌크헤드/속도 제한기의 누적 통계
+     */
+    public OutboundLimitStats limitStats(ApiCallOptions options) {
+        Bulkhead bulkhead = bulkheadFor(options);
+        TokenBucketRateLimiter rateLimiter = rateLimiterFor(options);
+        return new OutboundLimitStats(
+                bulkhead != null ? bulkhead.stats() : null,
+                rateLimiter != null ? rateLimiter.stats() : null);
+    }
+
+    public ResilienceStats resilienceStats() {
+        return new ResilienceStats(upstreamCalls.sum(), upstreamFailures.sum(),
+                apiRetryPolicy.stats(), apiCircuitBreaker.stats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchers.close();
+        hedging.close();
+    }
+
+    public CacheStats cacheStats() {
+        return apiResponseCache.stats();
+    }
+
+    /**
+     * 캐시 항목과 통계를 모두 비움
+     */
+    public void clearCache() {
+        apiResponseCache.invalidateAll();
+        apiResponseCache.resetStats();
+    }
+
+    private ApiResponse fetchCoalesced(int id, ApiCallOptions options) {
+        if (options.isCoalesce()) {
+            return inFlightPosts.execute(id, () -> fetchResilient(id, options));
+        }
+        return fetchResilient(id, options);
+    }
+
+    /**
+     * 재시도(바깥) + 회로 차단(시도마다) 적용
+     * 회로가 열려 있으면 업스트림을 호출하지 않고 즉시 실패하며, 이 실패는 재시도하지 않음
+     */
+    private ApiResponse fetchResilient(int id, ApiCallOptions options) {
+        if (options.isResilient()) {
+            return apiRetryPolicy.execute(
+                    () -> apiCircuitBreaker.execute(() -> fetchWithDeadline(id, options)),
+                    PostApiClient::isRetryable);
+        }
+        return fetchWithDeadline(id, options);
+    }
+
+    /**
+     * 회로 차단과 4xx 응답은 다시 시도해도 결과가 같으므로 재시도하지 않음
+     */
+    private static boolean isRetryable(RuntimeException e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof CircuitOpenException) {
+            return false;
+        }
+        if (cause instanceof UpstreamStatusException status) {
+            return !status.isClientError();
+        }
+        return !(cause instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+
+    /**
+     * 호출 기한과 헤지 요청 적용
+     */
+    private ApiResponse fetchWithDeadline(int id, ApiCallOptions options) {
+        Duration timeout = options.getTimeoutMs() > 0 ? Duration.ofMillis(options.getTimeoutMs()) : null;
+        if (options.isHedge()) {
+            Duration hedgeDelay = options.getHedgeDelayMs() > 0 ? Duration.ofMillis(options.getHedgeDelayMs()) : null;
+            return hedging.execute(() -> fetchFromBackend(id, options, timeout), hedgeDelay, timeout);
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return fetchFromBackend(id, options, timeout);
+        } catch (RuntimeException e) {
+            if (timeout != null && System.nanoTime() - startNanos >= timeout.toNanos()) {
+                hedging.recordDeadlineExceeded();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 속도 제한 → 벌크헤드를 거쳐 업스트림 호출
+     * 배치 요청은 플러시 동시성이 따로 제한되므로 개별 요청에만 적용
+     */
+    private ApiResponse fetchFromBackend(int id, ApiCallOptions options, Duration timeout) {
+        if (!options.isLimited() || options.isBatch()) {
+            return callBackend(id, options, timeout);
+        }
+        TokenBucketRateLimiter rateLimiter = rateLimiterFor(options);
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+        Bulkhead bulkhead = bulkheadFor(options);
+        return bulkhead != null
+                ? bulkhead.execute(() -> callBackend(id, options, timeout))
+                : callBackend(id, options, timeout);
+    }
+
+    /**
+     * 옵션에 지정된 백엔드로 실제 HTTP 호출 (배칭 사용 시 배처를 거쳐 다건 조회)
+     * 성공한 호출의 응답 시간은 헤지 지연 계산에 사용
+     */
+    private ApiResponse callBackend(int id, ApiCallOptions options, Duration timeout) {
+        upstreamCalls.increment();
+        long startNanos = System.nanoTime();
+        ApiResponse response;
+        try {
+            if (options.isBatch()) {
+                CompletableFuture<ApiResponse> future = batchers.submit(batcherKey(options), batcherFactory(options), id);
+                response = timeout != null
+                        ? future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).join()
+                        : future.join();
+            } else {
+                response = switch (options.getBackend()) {
+                    case WEBCLIENT -> fetchWithWebClient(id, options.getProtocol(), timeout);
+                    case HTTP_CLIENT_SYNC -> fetchWithHttpClient(id, options.getProtocol(), timeout);
+                    case HTTP_CLIENT_ASYNC -> fetchWithHttpClientAsync(id, options.getProtocol(), timeout);
+                };
+            }
+        } catch (RuntimeException e) {
+            upstreamFailures.increment();
+            throw e;
+        }
+        backendLatency.record(System.nanoTime() - startNanos);
+        return response;
+    }
+
+    /**
+     * WebClient로 조회 후 block()으로 대기
+     */
+    private ApiResponse fetchWithWebClient(int id, ApiProtocol protocol, Duration timeout) {
+        WebClient webClient = protocol == ApiProtocol.H2C ? apiH2cWebClient : apiWebClient;
+        Mono<ApiResponse> response = webClient.get()
+                .uri("/posts/{id}", id)
+                .retrieve()
+                .bodyToMono(ApiResponse.class);
+        // 기한을 넘기면 구독을 취소하므로 HTTP 요청도 함께 중단됨
+        return timeout != null ? response.block(timeout) : response.block();
+    }
+
+    /**
+     * HttpClient.send - 호출한 (가상) 스레드가 직접 블로킹
+     */
+    private ApiResponse fetchWithHttpClient(int id, ApiProtocol protocol, Duration timeout) {
+        try {
+            HttpResponse<InputStream> response =
+                    httpClientFor(protocol).send(postRequest(id, timeout), HttpResponse.BodyHandlers.ofInputStream());
+            return decode(response);
+        } catch (IOException e) {
+            throw new RuntimeException("API 호출 오류: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * HttpClient.sendAsync - 디코딩은 HttpClient 실행자에서 수행하고 결과만 대기
+     * join()은 인터럽트를 무시하므로 get()으로 대기하고, 인터럽트(헤지에서 진 시도의 cancel)되면 HTTP 요청도 취소
+     */
+    private ApiResponse fetchWithHttpClientAsync(int id, ApiProtocol protocol, Duration timeout) {
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+                httpClientFor(protocol).sendAsync(postRequest(id, timeout), HttpResponse.BodyHandlers.ofInputStream());
+        try {
+            return exchange.thenApply(this::decode).get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            // join()과 같은 형태로 원인을 전달 (재시도 판단은 CompletionException의 원인을 봄)
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private List<ApiResponse> fetchPostsWithHttpClient(List<Integer> ids, ApiProtocol protocol, Duration timeout) {
+        String query = ids.stream()
+                .map(id -> "id=" + id)
+                .collect(Collectors.joining("&"));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(properties.getBaseUrl() + "/posts?" + query))
+                .header("Accept", "application/json")
+                .GET();
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+        try {
+            HttpResponse<InputStream> response =
+                    httpClientFor(protocol).send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() >= 400) {
+                    throw new UpstreamStatusException(response.statusCode());
+                }
+                return objectMapper.readValue(body, POST_LIST_JSON_TYPE);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("API 다건 조회 오류: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 응답 본문을 Jackson 스트리밍 파서로 읽으며 배열 요소를 하나씩 바인딩
+     * 처리한 요소는 바로 버려지므로 목록 크기와 무관하게 메모리 사용량이 일정
+     */
+    private void streamPostsWithHttpClient(int limit, Consumer<ApiResponse> consumer) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getBaseUrl() + "/posts?limit=" + limit))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> response = apiHttpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body();
+                 JsonParser parser = objectMapper.createParser(body)) {
+                if (response.statusCode() >= 400) {
+                    throw new UpstreamStatusException(response.statusCode());
+                }
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new RuntimeException("API 응답 오류: 게시글 배열이 아닙니다");
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(objectMapper.readValue(parser, ApiResponse.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("API 목록 스트리밍 오류: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+    }
+
+    private HttpClient httpClientFor(ApiProtocol protocol) {
+        return protocol == ApiProtocol.H2C ? apiH2cHttpClient : apiHttpClient;
+    }
+
+    private Bulkhead bulkheadFor(ApiCallOptions options) {
+        int maxConcurrency = options.getMaxConcurrency() > 0
+                ? options.getMaxConcurrency() : properties.getLimits().getMaxConcurrency();
+        if (maxConcurrency <= 0) {
+            return null;
+        }
+        return boundedComputeIfAbsent(bulkheads, Math.min(maxConcurrency, MAX_CONCURRENCY_LIMIT),
+                limit -> new Bulkhead("posts-api", limit));
+    }
+
+    private TokenBucketRateLimiter rateLimiterFor(ApiCallOptions options) {
+        int ratePerSecond = options.getRatePerSecond() > 0
+                ? options.getRatePerSecond() : properties.getLimits().getRatePerSecond();
+        if (ratePerSecond <= 0) {
+            return null;
+        }
+        return boundedComputeIfAbsent(rateLimiters, Math.min(ratePerSecond, MAX_RATE_PER_SECOND),
+                rate -> new TokenBucketRateLimiter(rate, properties.getLimits().getBurst()));
+    }
+
+    /**
+     * 설정값별 제한기 조회 - 보관 개수를 넘으면 지금 설정 외의 항목을 버림
+     * 버린 제한기를 쥔 진행 중 호출은 그대로 끝나고, 이후 호출은 새 제한기를 사용
+     */
+    private static <V> V boundedComputeIfAbsent(Map<Integer, V> limiters, int key, Function<Integer, V> factory) {
+        V limiter = limiters.computeIfAbsent(key, factory);
+        if (limiters.size() > MAX_LIMITERS) {
+            limiters.keySet().removeIf(existing -> existing != key);
+        }
+        return limiter;
+    }
+
+    private static String batcherKey(ApiCallOptions options) {
+        return options.getBackend() + ":" + options.getProtocol() + ":" + options.getTimeoutMs()
+                + ":" + options.getBatchSize() + ":" + options.getLingerMs();
+    }
+
+    private Function<String, MicroBatcher<Integer, ApiResponse>> batcherFactory(ApiCallOptions options) {
+        ApiBackend backend = options.getBackend();
+        ApiProtocol protocol = options.getProtocol();
+        Duration timeout = options.getTimeoutMs() > 0 ? Duration.ofMillis(options.getTimeoutMs()) : null;
+        int batchSize = options.getBatchSize();
+        long lingerMs = options.getLingerMs();
+        return key -> new MicroBatcher<>(
+                "api-batch-" + key,
+                batchSize,
+                Duration.ofMillis(lingerMs),
+                BATCH_QUEUE_CAPACITY,
+                MAX_CONCURRENT_BATCHES,
+                ids -> fetchPosts(ids, backend, protocol, timeout));
+    }
+
+    private HttpRequest postRequest(int id, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(properties.getBaseUrl() + "/posts/" + id))
+                .header("Accept", "application/json")
+                .GET();
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 응답 본문을 문자열로 만들지 않고 Jackson 스트리밍 파서로 바로 디코딩
+     */
+    private ApiResponse decode(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() >= 400) {
+                throw new UpstreamStatusException(response.statusCode());
+            }
+            return objectMapper.readValue(body, ApiResponse.class);
+        } catch (IOException e) {
+            throw new RuntimeException("API 응답 디코딩 오류: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.AnalyticsEngine;
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.util.PriceAnalytics;
+import com.hunnit_beasts.thread.util.PriceColumnSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 이름 접두사로 거른 상품 가격 통계 - SQL 집계 / 엔티티 parallelStream / 열 스냅샷 fork/join
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductAnalyticsService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+
+    // 첫 COLUMNAR 계산 때 만들고, 벌크 적재/삭제 시 버림
+    private volatile PriceColumnSnapshot columnSnapshot;
+    // 무효화마다 증가 - 생성 도중 무효화되면 다 만든 스냅샷을 게시하지 않음
+    private long snapshotGeneration;
+
+    // 스냅샷 생성은 한 번에 하나만 (JDBC 페이지 읽기 동안 잡고 있으므로 synchronized 대신 ReentrantLock으로 가상 스레드 고정 방지)
+    private final ReentrantLock buildLock = new ReentrantLock();
+    // 스냅샷 참조/세대 교체만 보호하는 짧은 잠금 - 무효화가 생성 뒤에서 기다리지 않음
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    // 열 스냅샷을 채울 때 키셋 페이지 크기
+    private static final int SNAPSHOT_PAGE_SIZE = 100_000;
+    private static final String PRICE_FILTER = "FROM product WHERE name LIKE ? ESCAPE '\\' AND price IS NOT NULL";
+
+    public PriceAnalytics analyze(AnalyticsEngine engine, String prefix, int buckets) {
+        PriceAnalytics analytics = switch (engine) {
+            case SQL -> analyzeWithSql(prefix, buckets);
+            case PARALLEL_STREAM -> analyzeWithParallelStream(prefix, buckets);
+            case COLUMNAR -> analyzeWithColumnSnapshot(prefix, buckets);
+        };
+        analytics.setEngine(engine.name());
+        log.info("가격 통계 {} - 접두사: '{}', {}건, 로딩 {}ms, 계산 {}ms",
+                engine, prefix, analytics.getCount(), analytics.getLoadMs(), analytics.getComputeMs());
+        return analytics;
+    }
+
+    /**
+     * 세 방식을 차례로 실행 (열 스냅샷은 다시 만들어 생성 시간을 loadMs로 보고)
+     */
+    public List<PriceAnalytics> compare(String prefix, int buckets) {
+        invalidateSnapshot();
+        List<PriceAnalytics> results = new ArrayList<>();
+        for (AnalyticsEngine engine : AnalyticsEngine.values()) {
+            results.add(analyze(engine, prefix, buckets));
+        }
+        return results;
+    }
+
+    /**
+     * 엔티티 콜백을 거치지 않는 벌크 적재/삭제 후 호출 - 다음 COLUMNAR 계산 때 다시 만듦
+     */
+    public void invalidateSnapshot() {
+        stateLock.lock();
+        try {
+            snapshotGeneration++;
+            columnSnapshot = null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private PriceAnalytics analyzeWithSql(String prefix, int buckets) {
+        long startTime = System.nanoTime();
+        String pattern = likePrefix(prefix);
+        PriceAnalytics analytics = jdbcTemplate.queryForObject(
+                "SELECT COUNT(price), SUM(price), MIN(price), MAX(price), "
+                        + "PERCENTILE_DISC(0.5) WITHIN GROUP (ORDER BY price), "
+                        + "PERCENTILE_DISC(0.9) WITHIN GROUP (ORDER BY price), "
+                        + "PERCENTILE_DISC(0.99) WITHIN GROUP (ORDER BY price) " + PRICE_FILTER,
+                (rs, rowNum) -> {
+                    PriceAnalytics a = new PriceAnalytics();
+                    a.setCount(rs.getLong(1));
+                    a.setSum(rs.getDouble(2));
+                    a.setAvg(a.getCount() == 0 ? 0 : a.getSum() / a.getCount());
+                    a.setMin(rs.getDouble(3));
+                    a.setMax(rs.getDouble(4));
+                    a.setP50(rs.getDouble(5));
+                    a.setP90(rs.getDouble(6));
+                    a.setP99(rs.getDouble(7));
+                    return a;
+                },
+                pattern);
+
+        // 구간 경계에 min/max가 필요하므로 두 번째 쿼리로 구간별 개수 집계
+        double width = PriceAnalytics.bucketWidth(analytics.getMin(), analytics.getMax(), buckets);
+        long[] histogram = new long[buckets];
+        jdbcTemplate.query(
+                "SELECT b, COUNT(*) FROM (SELECT LEAST(CAST(FLOOR((price - ?) / ?) AS INT), ?) AS b "
+                        + PRICE_FILTER + ") t GROUP BY b",
+                rs -> {
+                    histogram[rs.getInt(1)] = rs.getLong(2);
+                },
+                analytics.getMin(), width, buckets - 1, pattern);
+
+        analytics.setNamePrefix(prefix);
+        analytics.setBucketWidth(width);
+        analytics.setHistogram(histogram);
+        analytics.setComputeMs(elapsedMs(startTime));
+        return analytics;
+    }
+
+    /**
+     * 엔티티 로딩(영속성 컨텍스트 포함) 후 commonPool에서 parallelStream으로 집계
+     * 행 수만큼 엔티티를 힙에 올리므로 수백만 건부터는 로딩 시간과 GC가 대부분을 차지
+     */
+    private PriceAnalytics analyzeWithParallelStream(String prefix, int buckets) {
+        long loadStart = System.nanoTime();
+        List<Product> products = productRepository.findByNameStartingWithAndPriceIsNotNull(prefix);
+        long loadMs = elapsedMs(loadStart);
+
+        long computeStart = System.nanoTime();
+        DoubleSummaryStatistics summary = products.parallelStream()
+                .mapToDouble(Product::getPrice)
+                .summaryStatistics();
+        double[] sorted = products.parallelStream()
+                .mapToDouble(Product::getPrice)
+                .sorted()
+                .toArray();
+
+        PriceAnalytics analytics = new PriceAnalytics();
+        analytics.setNamePrefix(prefix);
+        analytics.applySorted(sorted, summary.getSum());
+        double min = analytics.getMin();
+        double width = PriceAnalytics.bucketWidth(min, analytics.getMax(), buckets);
+        Map<Integer, Long> bucketCounts = products.parallelStream()
+                .collect(Collectors.groupingByConcurrent(
+                        p -> PriceAnalytics.bucketOf(p.getPrice(), min, width, buckets),
+                        Collectors.counting()));
+        long[] histogram = new long[buckets];
+        bucketCounts.forEach((bucket, count) -> histogram[bucket] = count);
+
+        analytics.setBucketWidth(width);
+        analytics.setHistogram(histogram);
+        analytics.setLoadMs(loadMs);
+        analytics.setComputeMs(elapsedMs(computeStart));
+        return analytics;
+    }
+
+    private PriceAnalytics analyzeWithColumnSnapshot(String prefix, int buckets) {
+        long loadStart = System.nanoTime();
+        boolean built = columnSnapshot == null;
+        PriceColumnSnapshot snapshot = snapshot();
+        long loadMs = built ? elapsedMs(loadStart) : 0;
+
+        long computeStart = System.nanoTime();
+        PriceAnalytics analytics = snapshot.analyze(prefix, buckets);
+        analytics.setLoadMs(loadMs);
+        analytics.setComputeMs(elapsedMs(computeStart));
+        return analytics;
+    }
+
+    private PriceColumnSnapshot snapshot() {
+        PriceColumnSnapshot snapshot = columnSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        buildLock.lock();
+        try {
+            // 기다리는 동안 다른 요청이 만들었으면 그대로 사용
+            snapshot = columnSnapshot;
+            if (snapshot != null) {
+                return snapshot;
+            }
+            long generation = currentGeneration();
+            snapshot = buildSnapshot();
+            publishSnapshot(snapshot, generation);
+            return snapshot;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        stateLock.lock();
+        try {
+            return snapshotGeneration;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    // 생성 중 무효화되었으면 이번 계산에만 쓰고 게시하지 않음 (다음 COLUMNAR 계산 때 다시 만듦)
+    private void publishSnapshot(PriceColumnSnapshot snapshot, long generation) {
+        stateLock.lock();
+        try {
+            if (snapshotGeneration == generation) {
+                columnSnapshot = snapshot;
+            } else {
+                log.info("상품 가격 열 스냅샷 생성 중 무효화됨 - 게시하지 않음");
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * id 키셋 페이지로 가격이 있는 상품의 이름/가격만 읽어 원시 배열로 채움
+     */
+    private PriceColumnSnapshot buildSnapshot() {
+        long startTime = System.currentTimeMillis();
+        Long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE price IS NOT NULL", Long.class);
+        ColumnBuffer buffer = new ColumnBuffer(expected == null ? 0 : Math.toIntExact(expected));
+
+        int pageRows;
+        do {
+            int before = buffer.size;
+            jdbcTemplate.query("SELECT id, name, price FROM product WHERE id > ? AND price IS NOT NULL ORDER BY id LIMIT ?",
+                    rs -> {
+                        buffer.lastId = rs.getLong(1);
+                        buffer.add(rs.getString(2), rs.getDouble(3));
+                    },
+                    buffer.lastId, SNAPSHOT_PAGE_SIZE);
+            pageRows = buffer.size - before;
+        } while (pageRows == SNAPSHOT_PAGE_SIZE);
+
+        PriceColumnSnapshot snapshot = new PriceColumnSnapshot(
+                Arrays.copyOf(buffer.names, buffer.size), Arrays.copyOf(buffer.prices, buffer.size));
+        log.info("상품 가격 열 스냅샷 생성 완료 - {}건, {}ms", snapshot.size(), System.currentTimeMillis() - startTime);
+        return snapshot;
+    }
+
+    // LIKE 특수 문자를 이스케이프한 접두사 패턴
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 스냅샷을 채우는 동안 쓰는 가변 배열 (COUNT 이후 늘어난 행만큼 키움)
+     */
+    private static final class ColumnBuffer {
+        private String[] names;
+        private double[] prices;
+        private int size;
+        private long lastId;
+
+        private ColumnBuffer(int capacity) {
+            names = new String[Math.max(16, capacity)];
+            prices = new double[names.length];
+        }
+
+        private void add(String name, double price) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                prices = Arrays.copyOf(prices, size * 2);
+            }
+            names[size] = name;
+            prices[size] = price;
+            size++;
+        }
+    }
+}
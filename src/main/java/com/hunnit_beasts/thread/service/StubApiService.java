@@ -0,0 +1,158 @@
+package com.hunnit_beasts.thread.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.StubSettings;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 스텁 API - 외부 API(jsonplaceholder)와 같은 형태의 게시글을 생성
+ * 외부 네트워크 없이 재현 가능한 부하 테스트를 위해 사용 (api.base-url을 /stub으로 지정)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StubApiService {
+
+    private final ObjectMapper objectMapper;
+
+    private volatile StubSettings settings = new StubSettings();
+
+    // 트래픽 통계 - 연결 수는 원격 주소:포트 기준으로 집계
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> protocolCounts = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+
+    public StubSettings getSettings() {
+        return settings;
+    }
+
+    public StubSettings updateSettings(StubSettings newSettings) {
+        log.info("스텁 API 설정 변경: {}", newSettings);
+        this.settings = newSettings;
+        return newSettings;
+    }
+
+    /**
+     * 요청 처리 시작 기록
+     */
+    public void recordRequestStart(String connection, String protocol) {
+        requests.increment();
+        connections.add(connection);
+        protocolCounts.computeIfAbsent(protocol, key -> new LongAdder()).increment();
+        maxInFlight.accumulate(inFlight.incrementAndGet());
+    }
+
+    /**
+     * 요청 처리 종료 기록
+     */
+    public void recordRequestEnd() {
+        inFlight.decrementAndGet();
+    }
+
+    public StubTrafficStats getTrafficStats() {
+        StubTrafficStats stats = new StubTrafficStats();
+        stats.setRequests(requests.sum());
+        stats.setConnections(connections.size());
+        stats.setMaxInFlight((int) maxInFlight.get());
+        Map<String, Long> protocols = new TreeMap<>();
+        protocolCounts.forEach((protocol, count) -> protocols.put(protocol, count.sum()));
+        stats.setProtocols(protocols);
+        return stats;
+    }
+
+    /**
+     * 트래픽 통계 초기화 (처리 중인 요청 수는 유지)
+     */
+    public void resetTrafficStats() {
+        requests.reset();
+        connections.clear();
+        protocolCounts.clear();
+        maxInFlight.reset();
+    }
+
+    /**
+     * 설정된 지연 분포에 따라 응답을 지연 (요청당 한 번)
+     */
+    public void simulateLatency() {
+        StubSettings current = settings;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = current.getBaseLatencyMs();
+        if (current.getJitterMs() > 0) {
+            delayMs += random.nextLong(current.getJitterMs() + 1);
+        }
+        if (current.getSlowRatio() > 0 && random.nextDouble() < current.getSlowRatio()) {
+            delayMs += current.getSlowLatencyMs();
+        }
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 설정된 비율에 따라 이번 요청을 실패시킬지 결정 (장애 주입)
+     */
+    public boolean shouldFail() {
+        double failureRatio = settings.getFailureRatio();
+        return failureRatio > 0 && ThreadLocalRandom.current().nextDouble() < failureRatio;
+    }
+
+    /**
+     * 게시글 하나 생성
+     */
+    public ApiResponse getPost(long id) {
+        ApiResponse post = new ApiResponse();
+        post.setId(id);
+        post.setUserId((int) ((id - 1) / 10 + 1));
+        post.setTitle("스텁 게시글 " + id);
+        post.setBody("로컬 스텁 API가 생성한 게시글 " + id + "의 본문입니다.");
+        return post;
+    }
+
+    /**
+     * 여러 id의 게시글을 한 번에 생성 (?id=1&id=2... 다건 조회)
+     */
+    public List<ApiResponse> getPosts(List<Long> ids) {
+        return ids.stream()
+                .map(this::getPost)
+                .toList();
+    }
+
+    /**
+     * 게시글 1..limit을 JSON 배열로 바로 출력 (전체 목록을 메모리에 만들지 않음)
+     */
+    public void writePosts(int limit, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            for (long id = 1; id <= limit; id++) {
+                generator.writeObject(getPost(id));
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 저장/수정/삭제를 애플리케이션 해시 인덱스에 반영하는 JPA 엔티티 리스너
+ * 콜백은 커밋 전에 호출되므로 롤백된 변경이 인덱스에 남을 수 있음 (비교 시나리오용 인덱스)
+ */
+@Component
+public class UserHashIndexMaintainer {
+
+    private final UserLookupService userLookupService;
+
+    // EntityManagerFactory 초기화 중에 생성될 수 있으므로 조회 서비스는 지연 주입
+    public UserHashIndexMaintainer(@Lazy UserLookupService userLookupService) {
+        this.userLookupService = userLookupService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        userLookupService.onSaved(user);
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        userLookupService.onRemoved(user);
+    }
+}
@@ -0,0 +1,215 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserLookupField;
+import com.hunnit_beasts.thread.model.UserLookupMode;
+import com.hunnit_beasts.thread.model.UserSummary;
+import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.LookupStats;
+import com.hunnit_beasts.thread.util.UserHashIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * username/email 단건 조회 - DB 인덱스 / 인덱스 없는 스캔 / 애플리케이션 해시 인덱스
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+    private final AsyncTaskExecutor virtualThreadExecutor;
+
+    // 첫 HASH_INDEX 조회 때 DB에서 채우고, 이후 JPA 저장/수정/삭제는 엔티티 리스너로 반영
+    // 조회 가능한 인덱스 (null이면 다음 HASH_INDEX 조회 때 재구성)
+    private volatile UserHashIndex readyIndex;
+    // 재구성 중에도 변경을 받아야 하므로 채우기 시작한 시점부터 유지
+    private volatile UserHashIndex maintainedIndex;
+    // 무효화마다 증가 - 재구성 도중 무효화되면 다 채운 인덱스를 게시하지 않음
+    private long indexGeneration;
+
+    // 재구성은 한 번에 하나만 (JDBC 페이지 읽기 동안 잡고 있으므로 synchronized 대신 ReentrantLock으로 가상 스레드 고정 방지)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 인덱스 참조/세대 교체만 보호하는 짧은 잠금 - 무효화가 재구성 뒤에서 기다리지 않음
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    // 해시 인덱스 재구성 시 키셋 페이지 크기
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    public List<UserSummary> lookup(UserLookupField field, String key, UserLookupMode mode) {
+        return switch (mode) {
+            case INDEXED -> field == UserLookupField.EMAIL
+                    ? userRepository.findSummariesByEmail(key)
+                    : userRepository.findSummariesByUsername(key);
+            case UNINDEXED -> field == UserLookupField.EMAIL
+                    ? userRepository.findSummariesByEmailWithoutIndex(key)
+                    : userRepository.findSummariesByUsernameWithoutIndex(key);
+            case HASH_INDEX -> {
+                UserHashIndex index = readyIndex;
+                yield (index != null ? index : ensureHashIndex()).find(field, key);
+            }
+        };
+    }
+
+    /**
+     * 사용자 테이블 전체를 키셋 페이지로 읽어 해시 인덱스를 다시 채우고 소요 시간(ms)을 반환
+     */
+    public long rebuildHashIndex() {
+        long startTime = System.currentTimeMillis();
+        rebuildLock.lock();
+        try {
+            UserHashIndex index = buildHashIndex();
+            long elapsed = System.currentTimeMillis() - startTime;
+            log.info("사용자 해시 인덱스 재구성 완료 - {}건, {}ms", index.size(), elapsed);
+            return elapsed;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 동시에 들어온 첫 조회들이 재구성을 한 번만 하도록 잠금 안에서 다시 확인
+    private UserHashIndex ensureHashIndex() {
+        rebuildLock.lock();
+        try {
+            UserHashIndex index = readyIndex;
+            return index != null ? index : buildHashIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 새 인덱스를 채워 게시 - 도중에 무효화되었으면 게시하지 않고 채운 인덱스만 반환 (rebuildLock 안에서 호출)
+     */
+    private UserHashIndex buildHashIndex() {
+        UserHashIndex index = new UserHashIndex();
+        long generation;
+        stateLock.lock();
+        try {
+            generation = indexGeneration;
+            readyIndex = null;
+            maintainedIndex = index;
+        } finally {
+            stateLock.unlock();
+        }
+
+        long afterId = 0;
+        List<UserSummary> page;
+        do {
+            page = userRepository.findSummaryPageAfter(afterId, Limit.of(REBUILD_PAGE_SIZE));
+            page.forEach(index::put);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        stateLock.lock();
+        try {
+            if (indexGeneration == generation) {
+                readyIndex = index;
+            } else {
+                log.info("사용자 해시 인덱스 재구성 중 무효화됨 - 게시하지 않음");
+            }
+        } finally {
+            stateLock.unlock();
+        }
+        return index;
+    }
+
+    /**
+     * 엔티티 콜백을 거치지 않는 벌크 적재/삭제 후 호출 - 다음 HASH_INDEX 조회 때 다시 채움
+     */
+    public void invalidateHashIndex() {
+        stateLock.lock();
+        try {
+            indexGeneration++;
+            readyIndex = null;
+            maintainedIndex = null;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public void onSaved(User user) {
+        UserHashIndex index = maintainedIndex;
+        if (index != null) {
+            index.put(new UserSummary(user.getId(), user.getUsername(), user.getEmail()));
+        }
+    }
+
+    public void onRemoved(User user) {
+        UserHashIndex index = maintainedIndex;
+        if (index != null) {
+            index.remove(user.getId());
+        }
+    }
+
+    /**
+     * 적재된 키(user{n}@example.com / 사용자{n}) 중 무작위로 골라 세 방식의 조회 처리량/지연 시간 비교
+     * 스캔은 조회마다 테이블 전체를 읽으므로 scanLookups로 따로 횟수를 줄임
+     */
+    public List<LookupStats> compareLookups(UserLookupField field, int lookups, int scanLookups, int concurrency) {
+        long keyRange = Math.max(1, userRepository.count());
+        log.info("사용자 키 조회 비교 시작 - 키: {}, 사용자 수: {}, 조회 수: {} (스캔 {}), 동시성: {}",
+                field, keyRange, lookups, scanLookups, concurrency);
+
+        long indexBuildMs = rebuildHashIndex();
+        List<LookupStats> stats = new ArrayList<>();
+        for (UserLookupMode mode : UserLookupMode.values()) {
+            int count = mode == UserLookupMode.UNINDEXED ? scanLookups : lookups;
+            LookupStats modeStats = runLookups(field, mode, count, concurrency, keyRange);
+            log.info("{} 조회 - {}건, {}/s, p99 {}μs", mode, count,
+                    String.format("%.0f", modeStats.getThroughputPerSec()), modeStats.getP99LatencyUs());
+            stats.add(modeStats);
+        }
+        log.info("해시 인덱스 재구성 {}ms (조회 비교에는 포함하지 않음)", indexBuildMs);
+        return stats;
+    }
+
+    /**
+     * concurrency개의 가상 스레드가 조회 번호를 차례로 가져가 실행
+     */
+    private LookupStats runLookups(UserLookupField field, UserLookupMode mode, int count, int concurrency, long keyRange) {
+        int workers = Math.max(1, concurrency);
+        long[] latencyNanos = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder hits = new LongAdder();
+
+        long startTime = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count) {
+                    String key = sampleKey(field, keyRange);
+                    long lookupStart = System.nanoTime();
+                    List<UserSummary> found = lookup(field, key, mode);
+                    latencyNanos[i] = System.nanoTime() - lookupStart;
+                    if (!found.isEmpty()) {
+                        hits.increment();
+                    }
+                }
+            }, virtualThreadExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return LookupStats.of(field.name(), mode.name(), latencyNanos, hits.sum(), workers, System.nanoTime() - startTime);
+    }
+
+    // DataSeedService가 적재하는 키 형식과 같아야 적중
+    private static String sampleKey(UserLookupField field, long keyRange) {
+        long n = ThreadLocalRandom.current().nextLong(1, keyRange + 1);
+        return field == UserLookupField.EMAIL ? "user" + n + "@example.com" : "사용자" + n;
+    }
+}
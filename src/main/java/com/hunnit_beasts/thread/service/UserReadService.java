@@ -0,0 +1,37 @@
+package com.hunnit_beasts.thread.service;
+
+import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserSummary;
+import com.hunnit_beasts.thread.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 페이지 읽기 - 읽기 방식마다 트랜잭션 속성이 달라 메서드를 나눔
+ * (DatabaseService 안에서 호출하면 프록시를 거치지 않아 @Transactional이 적용되지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserReadService {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    public List<User> readEntityPage(Long afterId, int pageSize) {
+        return userRepository.findPageAfter(afterId, Limit.of(pageSize));
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> readEntityPageReadOnly(Long afterId, int pageSize) {
+        return userRepository.findPageAfter(afterId, Limit.of(pageSize));
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserSummary> readSummaryPage(Long afterId, int pageSize) {
+        return userRepository.findSummaryPageAfter(afterId, Limit.of(pageSize));
+    }
+}
@@ -1,22 +1,36 @@
 package com.hunnit_beasts.thread.service;
 
+import com.hunnit_beasts.thread.model.ApiCallOptions;
 import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.config.CountingJpaTransactionManager;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
+import com.hunnit_beasts.thread.model.DbStepMode;
 import com.hunnit_beasts.thread.model.Product;
 import com.hunnit_beasts.thread.model.User;
-import com.hunnit_beasts.thread.repository.ProductRepository;
 import com.hunnit_beasts.thread.repository.UserRepository;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.MicroBatcher;
+import com.hunnit_beasts.thread.util.MicroBatcherRegistry;
+import com.hunnit_beasts.thread.util.PoolMetricsTracker;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
 import com.hunnit_beasts.thread.util.ThreadUtils;
+import com.hunnit_beasts.thread.util.TransactionStats;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,34 +42,79 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class WorkflowService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final PostApiClient postApiClient;
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
-
+    private final EntityCacheService entityCacheService;
+    private final EntityWriteService entityWriteService;
+    private final TransactionTemplate transactionTemplate;
+    private final CountingJpaTransactionManager transactionManager;
+    private final PoolMetricsTracker poolMetricsTracker;
+    // 배치 크기/대기 시간별 공유 트랜잭션 배처 (최근에 쓴 설정만 유지)
+    private final MicroBatcherRegistry<DbStepRequest, DbStepResult> sharedDbStepBatchers =
+            new MicroBatcherRegistry<>("shared-tx", MAX_SHARED_TX_BATCHERS);
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final ThreadPoolTaskExecutor platformThreadExecutor;
+
+    private static final int SHARED_TX_QUEUE_CAPACITY = 10_000;
+    private static final int MAX_SHARED_TX_BATCHERS = 8;
     private static final Path BASE_DIR = Paths.get(System.getProperty("java.io.tmpdir"), "virtual-threads-test");
 
+    /**
+     * 워크플로우 API 단계의 동시 호출 병합 통계
+     */
+    public SingleFlightStats getCoalescingStats() {
+        return postApiClient.coalescingStats();
+    }
+
+    /**
+     * 워크플로우 API 단계의 재시도/회로 차단 통계
+     */
+    public ResilienceStats getResilienceStats() {
+        return postApiClient.resilienceStats();
+    }
+
+    /**
+     * 누적 커넥션 획득/커밋 횟수
+     */
+    public TransactionStats getTransactionStats() {
+        return new TransactionStats(poolMetricsTracker.acquisitions(), transactionManager.commits(), 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sharedDbStepBatchers.close();
+    }
+
+    /**
+     * 워크플로우 DB 저장 단계의 지연 쓰기 통계
+     */
+    public WriteBehindStats getWriteBehindStats() {
+        return entityWriteService.getWriteBehindStats();
+    }
+
+    /**
+     * 워크플로우 DB 단계의 엔티티 캐시 통계
+     */
+    public EntityCacheStats getEntityCacheStats() {
+        return entityCacheService.stats();
+    }
+
     /**
      * 가상 스레드를 사용한 간단한 워크플로우
      */
-    @Async("virtualThreadExecutor")
-    public CompletableFuture<ExecutionResult<String>> runSimpleWorkflowWithVirtualThread(int id) {
+    public CompletableFuture<ExecutionResult<String>> runSimpleWorkflowWithVirtualThread(int id, ApiCallOptions options, DbQueryOptions dbOptions) {
         return ThreadUtils.executeWithMetrics(
                 "간단한 워크플로우 (가상) - " + id,
                 () -> {
                     // 1. API 호출
                     log.info("워크플로우 {}: API 호출 시작", id);
-                    ApiResponse apiResponse = webClientBuilder.build()
-                            .get()
-                            .uri("https://jsonplaceholder.typicode.com/posts/" + id)
-                            .retrieve()
-                            .bodyToMono(ApiResponse.class)
-                            .block();
+                    ApiResponse apiResponse = postApiClient.fetchPost(id, options);
                     log.info("워크플로우 {}: API 호출 완료", id);
 
                     // 2. DB 저장
                     log.info("워크플로우 {}: DB 저장 시작", id);
-                    User user = new User("워크플로우사용자" + id, "workflow" + id + "@example.com");
-                    userRepository.save(user);
+                    User user = entityWriteService.saveUser(
+                            new User("워크플로우사용자" + id, "workflow" + id + "@example.com"), dbOptions);
                     log.info("워크플로우 {}: DB 저장 완료", id);
 
                     // 3. 파일 기록
@@ -70,32 +129,27 @@ public class WorkflowService {
                     log.info("워크플로우 {}: 파일 기록 완료", id);
 
                     return "간단한 워크플로우 " + id + " 완료";
-                }
+                },
+                virtualThreadExecutor
         );
     }
 
     /**
      * 플랫폼 스레드를 사용한 간단한 워크플로우
      */
-    @Async("platformThreadExecutor")
-    public CompletableFuture<ExecutionResult<String>> runSimpleWorkflowWithPlatformThread(int id) {
+    public CompletableFuture<ExecutionResult<String>> runSimpleWorkflowWithPlatformThread(int id, ApiCallOptions options, DbQueryOptions dbOptions) {
         return ThreadUtils.executeWithMetrics(
                 "간단한 워크플로우 (플랫폼) - " + id,
                 () -> {
                     // 1. API 호출
                     log.info("워크플로우 {}: API 호출 시작", id);
-                    ApiResponse apiResponse = webClientBuilder.build()
-                            .get()
-                            .uri("https://jsonplaceholder.typicode.com/posts/" + id)
-                            .retrieve()
-                            .bodyToMono(ApiResponse.class)
-                            .block();
+                    ApiResponse apiResponse = postApiClient.fetchPost(id, options);
                     log.info("워크플로우 {}: API 호출 완료", id);
 
                     // 2. DB 저장
                     log.info("워크플로우 {}: DB 저장 시작", id);
-                    User user = new User("워크플로우사용자" + id, "workflow" + id + "@example.com");
-                    userRepository.save(user);
+                    User user = entityWriteService.saveUser(
+                            new User("워크플로우사용자" + id, "workflow" + id + "@example.com"), dbOptions);
                     log.info("워크플로우 {}: DB 저장 완료", id);
 
                     // 3. 파일 기록
@@ -110,15 +164,15 @@ public class WorkflowService {
                     log.info("워크플로우 {}: 파일 기록 완료", id);
 
                     return "간단한 워크플로우 " + id + " 완료";
-                }
+                },
+                platformThreadExecutor
         );
     }
 
     /**
      * 가상 스레드를 사용한 복잡한 워크플로우
      */
-    @Async("virtualThreadExecutor")
-    public CompletableFuture<ExecutionResult<String>> runComplexWorkflowWithVirtualThread(int id) {
+    public CompletableFuture<ExecutionResult<String>> runComplexWorkflowWithVirtualThread(int id, ApiCallOptions options, DbQueryOptions dbOptions) {
         return ThreadUtils.executeWithMetrics(
                 "복잡한 워크플로우 (가상) - " + id,
                 () -> {
@@ -128,12 +182,8 @@ public class WorkflowService {
                     for (int i = 1; i <= 3; i++) {
                         final int apiId = id * 10 + i;
                         apiFutures.add(CompletableFuture.supplyAsync(() ->
-                                webClientBuilder.build()
-                                        .get()
-                                        .uri("https://jsonplaceholder.typicode.com/posts/" + apiId)
-                                        .retrieve()
-                                        .bodyToMono(ApiResponse.class)
-                                        .block()
+                                postApiClient.fetchPost(apiId, options),
+                                virtualThreadExecutor
                         ));
                     }
                     List<ApiResponse> apiResponses = apiFutures.stream()
@@ -141,23 +191,12 @@ public class WorkflowService {
                             .toList();
                     log.info("복잡한 워크플로우 {}: 다중 API 호출 완료", id);
 
-                    // 2. DB 조회 및 저장
+                    // 2. DB 조회 및 저장 (트랜잭션 방식은 dbOptions.dbStepMode)
                     log.info("복잡한 워크플로우 {}: DB 작업 시작", id);
-                    // 기존 사용자 조회
-                    User existingUser = null;
-                    try {
-                        existingUser = userRepository.findById((long)id).orElse(null);
-                    } catch (Exception e) {
-                        log.warn("사용자 조회 실패, 새 사용자 생성: {}", e.getMessage());
-                    }
-
-                    // 새 사용자 저장
-                    User newUser = new User("복잡워크플로우사용자" + id, "complex" + id + "@example.com");
-                    userRepository.save(newUser);
-
-                    // 새 제품 저장
-                    Product newProduct = new Product("복잡워크플로우제품" + id, (double)(1000 * id));
-                    productRepository.save(newProduct);
+                    DbStepResult dbStep = runDbStep(id, dbOptions);
+                    User existingUser = dbStep.existingUser();
+                    User newUser = dbStep.newUser();
+                    Product newProduct = dbStep.newProduct();
                     log.info("복잡한 워크플로우 {}: DB 작업 완료", id);
 
                     // 3. 파일 작업
@@ -184,15 +223,15 @@ public class WorkflowService {
                     log.info("복잡한 워크플로우 {}: 파일 작업 완료", id);
 
                     return "복잡한 워크플로우 " + id + " 완료, 파일: " + fileName;
-                }
+                },
+                virtualThreadExecutor
         );
     }
 
     /**
      * 플랫폼 스레드를 사용한 복잡한 워크플로우
      */
-    @Async("platformThreadExecutor")
-    public CompletableFuture<ExecutionResult<String>> runComplexWorkflowWithPlatformThread(int id) {
+    public CompletableFuture<ExecutionResult<String>> runComplexWorkflowWithPlatformThread(int id, ApiCallOptions options, DbQueryOptions dbOptions) {
         return ThreadUtils.executeWithMetrics(
                 "복잡한 워크플로우 (플랫폼) - " + id,
                 () -> {
@@ -201,13 +240,9 @@ public class WorkflowService {
                     List<CompletableFuture<ApiResponse>> apiFutures = new ArrayList<>();
                     for (int i = 1; i <= 3; i++) {
                         final int apiId = id * 10 + i;
+                        // 플랫폼 풀 안에서 같은 풀에 하위 작업을 넣으면 교착될 수 있어 공용 풀 사용
                         apiFutures.add(CompletableFuture.supplyAsync(() ->
-                                webClientBuilder.build()
-                                        .get()
-                                        .uri("https://jsonplaceholder.typicode.com/posts/" + apiId)
-                                        .retrieve()
-                                        .bodyToMono(ApiResponse.class)
-                                        .block()
+                                postApiClient.fetchPost(apiId, options)
                         ));
                     }
                     List<ApiResponse> apiResponses = apiFutures.stream()
@@ -215,23 +250,12 @@ public class WorkflowService {
                             .toList();
                     log.info("복잡한 워크플로우 {}: 다중 API 호출 완료", id);
 
-                    // 2. DB 조회 및 저장
+                    // 2. DB 조회 및 저장 (트랜잭션 방식은 dbOptions.dbStepMode)
                     log.info("복잡한 워크플로우 {}: DB 작업 시작", id);
-                    // 기존 사용자 조회
-                    User existingUser = null;
-                    try {
-                        existingUser = userRepository.findById((long)id).orElse(null);
-                    } catch (Exception e) {
-                        log.warn("사용자 조회 실패, 새 사용자 생성: {}", e.getMessage());
-                    }
-
-                    // 새 사용자 저장
-                    User newUser = new User("복잡워크플로우사용자" + id, "complex" + id + "@example.com");
-                    userRepository.save(newUser);
-
-                    // 새 제품 저장
-                    Product newProduct = new Product("복잡워크플로우제품" + id, (double)(1000 * id));
-                    productRepository.save(newProduct);
+                    DbStepResult dbStep = runDbStep(id, dbOptions);
+                    User existingUser = dbStep.existingUser();
+                    User newUser = dbStep.newUser();
+                    Product newProduct = dbStep.newProduct();
                     log.info("복잡한 워크플로우 {}: DB 작업 완료", id);
 
                     // 3. 파일 작업
@@ -258,7 +282,8 @@ public class WorkflowService {
                     log.info("복잡한 워크플로우 {}: 파일 작업 완료", id);
 
                     return "복잡한 워크플로우 " + id + " 완료, 파일: " + fileName;
-                }
+                },
+                platformThreadExecutor
         );
     }
 
@@ -266,10 +291,25 @@ public class WorkflowService {
      * 여러 간단한 워크플로우 실행 (가상 스레드)
      */
     public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithVirtualThread(int count) {
+        return runMultipleSimpleWorkflowsWithVirtualThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 여러 간단한 워크플로우 실행 (가상 스레드, API 호출 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithVirtualThread(int count, ApiCallOptions options) {
+        return runMultipleSimpleWorkflowsWithVirtualThread(count, options, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 간단한 워크플로우 실행 (가상 스레드, API 호출/DB 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithVirtualThread(int count, ApiCallOptions options,
+                                                                                     DbQueryOptions dbOptions) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(runSimpleWorkflowWithVirtualThread(i));
+            futures.add(runSimpleWorkflowWithVirtualThread(i, options, dbOptions));
         }
 
         return futures.stream()
@@ -281,10 +321,25 @@ public class WorkflowService {
      * 여러 간단한 워크플로우 실행 (플랫폼 스레드)
      */
     public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithPlatformThread(int count) {
+        return runMultipleSimpleWorkflowsWithPlatformThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 여러 간단한 워크플로우 실행 (플랫폼 스레드, API 호출 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithPlatformThread(int count, ApiCallOptions options) {
+        return runMultipleSimpleWorkflowsWithPlatformThread(count, options, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 간단한 워크플로우 실행 (플랫폼 스레드, API 호출/DB 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleSimpleWorkflowsWithPlatformThread(int count, ApiCallOptions options,
+                                                                                      DbQueryOptions dbOptions) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(runSimpleWorkflowWithPlatformThread(i));
+            futures.add(runSimpleWorkflowWithPlatformThread(i, options, dbOptions));
         }
 
         return futures.stream()
@@ -296,10 +351,25 @@ public class WorkflowService {
      * 여러 복잡한 워크플로우 실행 (가상 스레드)
      */
     public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithVirtualThread(int count) {
+        return runMultipleComplexWorkflowsWithVirtualThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 여러 복잡한 워크플로우 실행 (가상 스레드, API 호출 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithVirtualThread(int count, ApiCallOptions options) {
+        return runMultipleComplexWorkflowsWithVirtualThread(count, options, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 복잡한 워크플로우 실행 (가상 스레드, API 호출/DB 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithVirtualThread(int count, ApiCallOptions options,
+                                                                                      DbQueryOptions dbOptions) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(runComplexWorkflowWithVirtualThread(i));
+            futures.add(runComplexWorkflowWithVirtualThread(i, options, dbOptions));
         }
 
         return futures.stream()
@@ -311,14 +381,99 @@ public class WorkflowService {
      * 여러 복잡한 워크플로우 실행 (플랫폼 스레드)
      */
     public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithPlatformThread(int count) {
+        return runMultipleComplexWorkflowsWithPlatformThread(count, new ApiCallOptions());
+    }
+
+    /**
+     * 여러 복잡한 워크플로우 실행 (플랫폼 스레드, API 호출 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithPlatformThread(int count, ApiCallOptions options) {
+        return runMultipleComplexWorkflowsWithPlatformThread(count, options, new DbQueryOptions());
+    }
+
+    /**
+     * 여러 복잡한 워크플로우 실행 (플랫폼 스레드, API 호출/DB 옵션 지정)
+     */
+    public List<ExecutionResult<String>> runMultipleComplexWorkflowsWithPlatformThread(int count, ApiCallOptions options,
+                                                                                       DbQueryOptions dbOptions) {
         List<CompletableFuture<ExecutionResult<String>>> futures = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            futures.add(runComplexWorkflowWithPlatformThread(i));
+            futures.add(runComplexWorkflowWithPlatformThread(i, options, dbOptions));
         }
 
         return futures.stream()
                 .map(CompletableFuture::join)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * 기존 사용자 조회 - 엔티티 캐시를 켜면 미스일 때만 DB를 조회
+     */
+    private User findExistingUser(long id, DbQueryOptions dbOptions) {
+        if (dbOptions.isEntityCache()) {
+            return entityCacheService.getUser(id, key -> userRepository.findById(key).orElse(null));
+        }
+        return userRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * 복잡한 워크플로우 DB 단계 실행
+     * - AUTO_COMMIT: 조회/저장마다 리포지토리 트랜잭션
+     * - SINGLE_TRANSACTION: 세 작업을 트랜잭션 하나(커넥션 한 번 획득, 커밋 한 번)로
+     * - SHARED_TRANSACTION: 배처에 맡겨 다른 워크플로우의 DB 단계와 함께 트랜잭션 하나로 커밋
+     */
+    private DbStepResult runDbStep(int id, DbQueryOptions dbOptions) {
+        return switch (dbOptions.getDbStepMode()) {
+            case AUTO_COMMIT -> dbStep(id, dbOptions);
+            case SINGLE_TRANSACTION -> transactionTemplate.execute(status -> dbStep(id, dbOptions));
+            case SHARED_TRANSACTION -> submitSharedDbStep(new DbStepRequest(id, dbOptions)).join();
+        };
+    }
+
+    private DbStepResult dbStep(int id, DbQueryOptions dbOptions) {
+        // 기존 사용자 조회
+        User existingUser = null;
+        if (dbOptions.getDbStepMode() == DbStepMode.AUTO_COMMIT) {
+            try {
+                existingUser = findExistingUser(id, dbOptions);
+            } catch (Exception e) {
+                log.warn("사용자 조회 실패, 새 사용자 생성: {}", e.getMessage());
+            }
+        } else {
+            // 트랜잭션 안에서는 리포지토리 예외가 트랜잭션을 rollback-only로 만들므로 삼키지 않음
+            // (삼키면 커밋 시점에 UnexpectedRollbackException으로 공유 배치 전체가 실패)
+            existingUser = findExistingUser(id, dbOptions);
+        }
+
+        // 새 사용자 저장
+        User newUser = entityWriteService.saveUser(
+                new User("복잡워크플로우사용자" + id, "complex" + id + "@example.com"), dbOptions);
+
+        // 새 제품 저장
+        Product newProduct = entityWriteService.saveProduct(
+                new Product("복잡워크플로우제품" + id, (double) (1000 * id)), dbOptions);
+        return new DbStepResult(existingUser, newUser, newProduct);
+    }
+
+    private CompletableFuture<DbStepResult> submitSharedDbStep(DbStepRequest request) {
+        DbQueryOptions dbOptions = request.options();
+        String key = dbOptions.getTxBatchSize() + ":" + dbOptions.getLingerMs();
+        return sharedDbStepBatchers.submit(key, k -> new MicroBatcher<>(
+                "shared-tx-" + k,
+                dbOptions.getTxBatchSize(),
+                Duration.ofMillis(dbOptions.getLingerMs()),
+                SHARED_TX_QUEUE_CAPACITY,
+                // 배치마다 커넥션 하나를 점유하므로 동시 배치 수는 작게 유지
+                2,
+                requests -> transactionTemplate.execute(status -> requests.stream()
+                        .map(queued -> dbStep(queued.id(), queued.options()))
+                        .toList())), request);
+    }
+
+    private record DbStepRequest(int id, DbQueryOptions options) {
+    }
+
+    private record DbStepResult(User existingUser, User newUser, Product newProduct) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마이크로 배칭 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStats {
+    private long batches;
+    private long items;
+    private long failedBatches;
+
+    public double getAvgBatchSize() {
+        return batches == 0 ? 0.0 : (double) items / batches;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public BatchStats since(BatchStats before) {
+        return new BatchStats(batches - before.batches, items - before.items, failedBatches - before.failedBatches);
+    }
+}
@@ -0,0 +1,26 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이렉트 버퍼 풀 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BufferPoolStats {
+    private int bufferSizeKb;
+    private int allocated;
+    private long acquisitions;
+    // 버퍼가 모두 사용 중이라 반납을 기다린 횟수
+    private long waits;
+
+    /**
+     * 이전 스냅샷 이후 증가분 (할당된 버퍼 수는 현재 값)
+     */
+    public BufferPoolStats since(BufferPoolStats before) {
+        return new BufferPoolStats(bufferSizeKb, allocated, acquisitions - before.acquisitions, waits - before.waits);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 업스트림별 동시 호출 수 제한 (세마포어 벌크헤드)
+ * - 가상 스레드는 개수 제한이 없으므로 동시 연결 수를 의도적으로 제한해 배압을 만듦
+ * - 공정(fair) 세마포어로 대기 순서대로 허가를 받음 (가상 스레드는 대기 중 캐리어를 반납)
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+
+    public Bulkhead(String name, int maxConcurrency) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    public <V> V execute(Supplier<V> call) {
+        acquire();
+        try {
+            maxInFlight.accumulate(inFlight.incrementAndGet());
+            return call.get();
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    public BulkheadStats stats() {
+        return new BulkheadStats(name, maxConcurrency, acquired.sum(), waited.sum(),
+                totalWaitNanos.sum() / 1_000_000, maxInFlight.get());
+    }
+
+    private void acquire() {
+        if (!permits.tryAcquire()) {
+            long startNanos = System.nanoTime();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("스레드가 중단되었습니다", e);
+            }
+            waited.increment();
+            totalWaitNanos.add(System.nanoTime() - startNanos);
+        }
+        acquired.increment();
+    }
+}
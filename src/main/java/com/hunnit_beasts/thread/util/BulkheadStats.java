@@ -0,0 +1,35 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벌크헤드 대기 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadStats {
+    private String name;
+    private int maxConcurrency;
+    // 허가를 받은 호출 수
+    private long acquired;
+    // 허가를 기다린 호출 수
+    private long waited;
+    private long totalWaitMs;
+    // 관측된 최대 동시 호출 수 (누적)
+    private long maxInFlight;
+
+    public double getAvgWaitMs() {
+        return acquired == 0 ? 0.0 : (double) totalWaitMs / acquired;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분 (최대 동시 호출 수는 누적 값)
+     */
+    public BulkheadStats since(BulkheadStats before) {
+        return new BulkheadStats(name, maxConcurrency, acquired - before.acquired,
+                waited - before.waited, totalWaitMs - before.totalWaitMs, maxInFlight);
+    }
+}
@@ -0,0 +1,32 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 적중/미스/축출 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long size;
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분 (크기는 현재 값)
+     */
+    public CacheStats since(CacheStats before) {
+        return new CacheStats(hits - before.hits, misses - before.misses,
+                evictions - before.evictions, expirations - before.expirations, size);
+    }
+}
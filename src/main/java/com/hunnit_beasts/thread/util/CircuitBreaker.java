@@ -0,0 +1,167 @@
+package com.hunnit_beasts.thread.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 회로 차단기
+ * - CLOSED: 최근 windowSize건의 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 즉시 실패 (CircuitOpenException)
+ * - HALF_OPEN: 시험 호출 halfOpenTrials건이 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 상태 전이는 짧은 임계 구역이라 가상 스레드 고정(pinning)을 피하도록 ReentrantLock 사용
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenTrials;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 최근 호출 결과 (true = 실패) 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * @param failureRatePercent 회로를 여는 실패율 (%)
+     * @param minimumCalls       실패율을 계산하기 위한 최소 호출 수
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRatePercent,
+                          Duration openDuration, int halfOpenTrials) {
+        this.name = name;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRatePercent / 100.0;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenTrials = Math.max(1, halfOpenTrials);
+    }
+
+    public <V> V execute(Supplier<V> call) {
+        acquirePermission();
+        try {
+            V value = call.get();
+            onSuccess();
+            return value;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    public CircuitBreakerStats stats() {
+        lock.lock();
+        try {
+            double failureRate = windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+            return new CircuitBreakerStats(state, failureRate,
+                    permitted.sum(), failed.sum(), rejected.sum(), opened.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    rejected.increment();
+                    throw new CircuitOpenException(name);
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= halfOpenTrials) {
+                    rejected.increment();
+                    throw new CircuitOpenException(name);
+                }
+                halfOpenPermits++;
+            }
+            permitted.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSuccesses >= halfOpenTrials) {
+                    resetWindow();
+                    state = State.CLOSED;
+                }
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure() {
+        failed.increment();
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (windowCount >= minimumCalls
+                        && (double) windowFailures / windowCount >= failureRateThreshold) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        opened.increment();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회로 차단기 상태와 누적 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerStats {
+    private CircuitBreaker.State state;
+    // 현재 윈도우의 실패율 (0.0 ~ 1.0)
+    private double failureRate;
+    // 실제로 호출을 허용한 수
+    private long permitted;
+    // 허용된 호출 중 실패한 수
+    private long failed;
+    // 회로가 열려 즉시 실패한 수
+    private long rejected;
+    // 회로가 열린 횟수
+    private long opened;
+
+    /**
+     * 이전 스냅샷 이후 증가분 (상태와 실패율은 현재 값)
+     */
+    public CircuitBreakerStats since(CircuitBreakerStats before) {
+        return new CircuitBreakerStats(state, failureRate, permitted - before.permitted,
+                failed - before.failed, rejected - before.rejected, opened - before.opened);
+    }
+}
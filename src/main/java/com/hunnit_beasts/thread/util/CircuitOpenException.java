@@ -0,0 +1,11 @@
+package com.hunnit_beasts.thread.util;
+
+/**
+ * 회로가 열려 있어 호출하지 않고 즉시 실패했음을 나타내는 예외
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String name) {
+        super("회로 차단 중: " + name);
+    }
+}
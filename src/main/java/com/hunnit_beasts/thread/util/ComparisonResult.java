@@ -1,7 +1,9 @@
 package com.hunnit_beasts.thread.util;
 
 import lombok.Data;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class ComparisonResult<T> {
@@ -12,12 +14,18 @@ public class ComparisonResult<T> {
     private double speedupFactor;
     private List<ExecutionResult<T>> virtualThreadResults;
     private List<ExecutionResult<T>> platformThreadResults;
+    // 시나리오별 부가 지표 (캐시 통계 등)
+    private Map<String, Object> metrics = new LinkedHashMap<>();
 
     public ComparisonResult(String scenarioName, int taskCount) {
         this.scenarioName = scenarioName;
         this.taskCount = taskCount;
     }
 
+    public void addMetric(String name, Object value) {
+        metrics.put(name, value);
+    }
+
     public void calculateSpeedup() {
         if (platformThreadTotalTimeMs > 0) {
             this.speedupFactor = (double) platformThreadTotalTimeMs / virtualThreadTotalTimeMs;
@@ -0,0 +1,43 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커넥션 풀 획득/사용/타임아웃 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStats {
+    private int maxPoolSize;
+    private int activeConnections;
+    private int idleConnections;
+    // 연결을 기다리던 스레드 수의 최대치 (마지막 최대치 초기화 이후)
+    private int maxPendingThreads;
+    private long acquisitions;
+    private long totalAcquireMs;
+    // 연결 획득 대기 시간의 최대치 (마지막 최대치 초기화 이후)
+    private long maxAcquireMs;
+    private long totalUsageMs;
+    // 연결 획득 타임아웃 수
+    private long timeouts;
+
+    public double getAvgAcquireMs() {
+        return acquisitions == 0 ? 0.0 : (double) totalAcquireMs / acquisitions;
+    }
+
+    public double getAvgUsageMs() {
+        return acquisitions == 0 ? 0.0 : (double) totalUsageMs / acquisitions;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분 (풀 상태와 최대치는 현재 값)
+     */
+    public ConnectionPoolStats since(ConnectionPoolStats before) {
+        return new ConnectionPoolStats(maxPoolSize, activeConnections, idleConnections, maxPendingThreads,
+                acquisitions - before.acquisitions, totalAcquireMs - before.totalAcquireMs, maxAcquireMs,
+                totalUsageMs - before.totalUsageMs, timeouts - before.timeouts);
+    }
+}
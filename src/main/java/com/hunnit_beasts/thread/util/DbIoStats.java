@@ -0,0 +1,56 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * H2 저장소 설정과 파일 I/O 누적치 (INFORMATION_SCHEMA.SETTINGS의 info.* 항목)
+ * 인메모리 DB는 파일 저장소가 없으므로 fileBacked=false, I/O 값은 모두 0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DbIoStats {
+    private boolean fileBacked;
+    private long fileSizeBytes;
+    private long cacheMaxSizeMb;
+    private long writeDelayMs;
+    private long fileReads;
+    private long fileReadBytes;
+    private long fileWrites;
+    private long fileWriteBytes;
+
+    public static DbIoStats of(Map<String, String> settings) {
+        return new DbIoStats(
+                settings.containsKey("info.FILE_SIZE"),
+                parse(settings, "info.FILE_SIZE"),
+                parse(settings, "info.CACHE_MAX_SIZE"),
+                parse(settings, "WRITE_DELAY"),
+                parse(settings, "info.FILE_READ"),
+                parse(settings, "info.FILE_READ_BYTES"),
+                parse(settings, "info.FILE_WRITE"),
+                parse(settings, "info.FILE_WRITE_BYTES"));
+    }
+
+    /**
+     * 이전 스냅샷 이후 I/O 증가분 (설정과 파일 크기는 현재 값)
+     */
+    public DbIoStats since(DbIoStats before) {
+        return new DbIoStats(fileBacked, fileSizeBytes, cacheMaxSizeMb, writeDelayMs,
+                fileReads - before.fileReads,
+                fileReadBytes - before.fileReadBytes,
+                fileWrites - before.fileWrites,
+                fileWriteBytes - before.fileWriteBytes);
+    }
+
+    private static long parse(Map<String, String> settings, String name) {
+        try {
+            return Long.parseLong(settings.getOrDefault(name, "0").trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
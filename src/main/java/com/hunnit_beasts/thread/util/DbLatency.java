@@ -0,0 +1,59 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * H2 함수 별칭(INJECT_LATENCY)으로 호출되는 DB 지연 주입기
+ * - 쿼리 안에서 실행되므로 지연 동안 실제 JDBC 연결을 점유 (커넥션 풀 경합 재현)
+ * - H2는 함수를 호출한 스레드에서 실행하므로 가상 스레드라면 캐리어를 반납한 채 대기
+ * - 쿼리 이름별 분포가 설정되어 있으면 그 분포를, 없으면 쿼리가 넘긴 지연 시간을 사용
+ */
+public class DbLatency {
+
+    public static final String FUNCTION_NAME = "INJECT_LATENCY";
+
+    private static volatile boolean enabled = true;
+    private static volatile Map<String, LatencyDistribution> distributions = Map.of();
+
+    private static final LongAdder injections = new LongAdder();
+    private static final LongAdder totalDelayMs = new LongAdder();
+
+    public static void configure(boolean enabled, Map<String, LatencyDistribution> distributions) {
+        DbLatency.enabled = enabled;
+        DbLatency.distributions = Map.copyOf(distributions);
+    }
+
+    /**
+     * SQL에서 INJECT_LATENCY('user.findById', :delayMs)로 호출 - 실제 적용한 지연 시간(ms)을 반환
+     */
+    public static int inject(String queryName, int requestedDelayMs) throws InterruptedException {
+        long delayMs = sampleDelayMs(queryName, requestedDelayMs);
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+        return (int) delayMs;
+    }
+
+    /**
+     * 적용할 지연 시간만 뽑아 통계에 기록 - 대기는 호출자가 처리 (리액티브 경로는 타이머로 대기)
+     */
+    public static long sampleDelayMs(String queryName, int requestedDelayMs) {
+        if (!enabled) {
+            return 0;
+        }
+        LatencyDistribution distribution = distributions.get(queryName);
+        long delayMs = distribution != null ? distribution.sampleMs() : requestedDelayMs;
+        if (delayMs <= 0) {
+            return 0;
+        }
+
+        injections.increment();
+        totalDelayMs.add(delayMs);
+        return delayMs;
+    }
+
+    public static DbLatencyStats stats() {
+        return new DbLatencyStats(injections.sum(), totalDelayMs.sum());
+    }
+}
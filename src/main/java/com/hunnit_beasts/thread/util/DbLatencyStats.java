@@ -0,0 +1,28 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 지연 주입 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DbLatencyStats {
+    // 지연이 주입된 쿼리 수
+    private long injections;
+    private long totalDelayMs;
+
+    public double getAvgDelayMs() {
+        return injections == 0 ? 0.0 : (double) totalDelayMs / injections;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public DbLatencyStats since(DbLatencyStats before) {
+        return new DbLatencyStats(injections - before.injections, totalDelayMs - before.totalDelayMs);
+    }
+}
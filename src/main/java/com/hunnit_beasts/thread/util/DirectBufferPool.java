@@ -0,0 +1,55 @@
+package com.hunnit_beasts.thread.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 같은 크기의 다이렉트 ByteBuffer 풀 - 필요할 때 최대 maxBuffers개까지 만들고, 그 이상은 반납을 기다림
+ * 다이렉트 버퍼는 할당/해제 비용이 크고 GC로 늦게 회수되므로 요청마다 만들지 않고 재사용
+ */
+public class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    // 새 버퍼를 만들 때 한 번 실행 (내용이 고정된 버퍼라면 여기서 채움)
+    private final Consumer<ByteBuffer> initializer;
+    private final BlockingQueue<ByteBuffer> free = new LinkedBlockingQueue<>();
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+
+    public DirectBufferPool(int bufferSize, int maxBuffers, Consumer<ByteBuffer> initializer) {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = Math.max(1, maxBuffers);
+        this.initializer = initializer;
+    }
+
+    public ByteBuffer acquire() throws InterruptedException {
+        acquisitions.increment();
+        ByteBuffer buffer = free.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        for (int current = allocated.get(); current < maxBuffers; current = allocated.get()) {
+            if (allocated.compareAndSet(current, current + 1)) {
+                ByteBuffer created = ByteBuffer.allocateDirect(bufferSize);
+                initializer.accept(created);
+                return created.clear();
+            }
+        }
+        waits.increment();
+        return free.take();
+    }
+
+    public void release(ByteBuffer buffer) {
+        free.offer(buffer.clear());
+    }
+
+    public BufferPoolStats stats() {
+        return new BufferPoolStats(bufferSize / 1024, allocated.get(), acquisitions.sum(), waits.sum());
+    }
+}
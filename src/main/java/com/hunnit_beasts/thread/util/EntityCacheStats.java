@@ -0,0 +1,26 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 조회 캐시 통계 스냅샷 (사용자/상품)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityCacheStats {
+    private CacheStats users;
+    private CacheStats products;
+    // 수정/삭제로 무효화된 항목 수
+    private long invalidations;
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public EntityCacheStats since(EntityCacheStats before) {
+        return new EntityCacheStats(users.since(before.users), products.since(before.products),
+                invalidations - before.invalidations);
+    }
+}
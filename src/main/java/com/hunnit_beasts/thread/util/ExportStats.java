@@ -0,0 +1,23 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테이블 내보내기 한 번의 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportStats {
+    private String table;
+    private String format;
+    private long rows;
+    private long elapsedMs;
+    private long peakHeapUsedMb;
+
+    public double getRowsPerSec() {
+        return elapsedMs == 0 ? 0.0 : rows * 1000.0 / elapsedMs;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 헤지 요청과 호출 기한 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HedgeStats {
+    // 헤지가 켜진 호출 수
+    private long calls;
+    // 두 번째(헤지) 요청을 보낸 호출 수
+    private long hedged;
+    // 헤지 요청이 먼저 응답한 호출 수
+    private long hedgeWins;
+    // 호출 기한을 넘긴 호출 수
+    private long deadlineExceeded;
+
+    public double getHedgeRate() {
+        return calls == 0 ? 0.0 : (double) hedged / calls;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public HedgeStats since(HedgeStats before) {
+        return new HedgeStats(calls - before.calls, hedged - before.hedged,
+                hedgeWins - before.hedgeWins, deadlineExceeded - before.deadlineExceeded);
+    }
+}
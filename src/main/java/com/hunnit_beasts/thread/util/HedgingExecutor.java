@@ -0,0 +1,118 @@
+package com.hunnit_beasts.thread.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 헤지 요청 실행기
+ * - 주 요청이 헤지 지연(기본: 최근 p95)을 넘기면 같은 요청을 한 번 더 보냄
+ * - 먼저 성공한 응답을 사용하고, 나머지 요청은 인터럽트로 취소
+ * - 전체 호출 기한을 넘기면 모든 요청을 취소하고 실패
+ */
+public class HedgingExecutor implements AutoCloseable {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyTracker latencyTracker;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedged = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    public HedgingExecutor(LatencyTracker latencyTracker) {
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * 헤지를 적용해 호출
+     *
+     * @param fixedHedgeDelay 고정 헤지 지연 (null이면 최근 응답 시간의 백분위수 사용)
+     * @param timeout         전체 호출 기한 (null이면 무제한)
+     */
+    public <V> V execute(Callable<V> call, Duration fixedHedgeDelay, Duration timeout) {
+        calls.increment();
+        long startNanos = System.nanoTime();
+        long timeoutNanos = timeout != null ? timeout.toNanos() : Long.MAX_VALUE;
+
+        ExecutorCompletionService<V> completion = new ExecutorCompletionService<>(executor);
+        List<Future<V>> attempts = new ArrayList<>(2);
+        attempts.add(completion.submit(call));
+        try {
+            Future<V> done = completion.poll(Math.min(hedgeDelayNanos(fixedHedgeDelay), timeoutNanos),
+                    TimeUnit.NANOSECONDS);
+            if (done == null && System.nanoTime() - startNanos < timeoutNanos) {
+                hedged.increment();
+                attempts.add(completion.submit(call));
+            }
+
+            ExecutionException lastFailure = null;
+            for (int outstanding = attempts.size(); outstanding > 0; outstanding--) {
+                if (done == null) {
+                    long remaining = timeoutNanos - (System.nanoTime() - startNanos);
+                    done = remaining > 0 ? completion.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (done == null) {
+                        deadlineExceeded.increment();
+                        throw new RuntimeException("호출 기한 초과: " + timeoutNanos / 1_000_000 + "ms");
+                    }
+                }
+                try {
+                    V value = done.get();
+                    if (done != attempts.get(0)) {
+                        hedgeWins.increment();
+                    }
+                    return value;
+                } catch (ExecutionException e) {
+                    // 한쪽이 실패하면 남은 요청의 결과를 기다림
+                    lastFailure = e;
+                    done = null;
+                }
+            }
+            if (lastFailure.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(lastFailure.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        } finally {
+            // 진 쪽 요청 취소 (가상 스레드 인터럽트 → HTTP 요청 중단)
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * 헤지 없이 호출 기한만 넘긴 경우 집계
+     */
+    public void recordDeadlineExceeded() {
+        deadlineExceeded.increment();
+    }
+
+    public HedgeStats stats() {
+        return new HedgeStats(calls.sum(), hedged.sum(), hedgeWins.sum(), deadlineExceeded.sum());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private long hedgeDelayNanos(Duration fixedHedgeDelay) {
+        if (fixedHedgeDelay != null) {
+            return fixedHedgeDelay.toNanos();
+        }
+        long percentile = latencyTracker.percentileNanos(MIN_SAMPLES);
+        // 표본이 부족하면 헤지하지 않음
+        return percentile > 0 ? percentile : Long.MAX_VALUE;
+    }
+}
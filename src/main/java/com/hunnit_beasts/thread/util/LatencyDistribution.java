@@ -0,0 +1,32 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Data;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지연 시간 분포 - 기본 지연 + 균등 분포 지터 + 일정 비율의 느린 꼬리 지연
+ */
+@Data
+public class LatencyDistribution {
+    private long baseMs = 0;
+    private long jitterMs = 0;
+    // 느린 응답 비율 (0.0 ~ 1.0)
+    private double slowRatio = 0.0;
+    private long slowMs = 0;
+
+    /**
+     * 분포에서 지연 시간 하나를 뽑음
+     */
+    public long sampleMs() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = baseMs;
+        if (jitterMs > 0) {
+            delayMs += random.nextLong(jitterMs + 1);
+        }
+        if (slowRatio > 0 && random.nextDouble() < slowRatio) {
+            delayMs += slowMs;
+        }
+        return delayMs;
+    }
+}
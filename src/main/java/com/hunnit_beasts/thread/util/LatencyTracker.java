@@ -0,0 +1,55 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N개 응답 시간을 링 버퍼에 기록하고 백분위수를 계산하는 추적기
+ * - 기록은 락 없이 처리하고, 백분위수는 일정 간격으로만 다시 계산해 캐시
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long cachedPercentileNanos = -1;
+    private volatile long cachedAt = -1;
+
+    public LatencyTracker(int windowSize, double percentile) {
+        this.samples = new AtomicLongArray(windowSize);
+        this.percentile = percentile;
+    }
+
+    public void record(long latencyNanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyNanos);
+    }
+
+    public long sampleCount() {
+        return Math.min(recorded.get(), samples.length());
+    }
+
+    /**
+     * 최근 창의 백분위수 (나노초) - 표본이 minSamples보다 적으면 -1
+     */
+    public long percentileNanos(int minSamples) {
+        long count = recorded.get();
+        if (Math.min(count, samples.length()) < minSamples) {
+            return -1;
+        }
+        if (cachedAt < 0 || count - cachedAt >= RECOMPUTE_INTERVAL) {
+            int size = (int) Math.min(count, samples.length());
+            long[] snapshot = new long[size];
+            for (int i = 0; i < size; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            cachedPercentileNanos = ScenarioStats.percentile(snapshot, percentile);
+            cachedAt = count;
+        }
+        return cachedPercentileNanos;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 조회 방식 하나의 처리량/지연 시간 (해시 인덱스는 ms 미만이므로 μs 단위)
+ */
+@Data
+@NoArgsConstructor
+public class LookupStats {
+    private String field;
+    private String mode;
+    private int lookups;
+    private long hits;
+    private int concurrency;
+    private long totalTimeMs;
+    private double throughputPerSec;
+    private double avgLatencyUs;
+    private long p50LatencyUs;
+    private long p99LatencyUs;
+    private long maxLatencyUs;
+
+    /**
+     * 조회마다 측정한 지연 시간(ns)과 전체 소요 시간(ns)으로 통계 생성
+     */
+    public static LookupStats of(String field, String mode, long[] latencyNanos, long hits, int concurrency, long totalNanos) {
+        LookupStats stats = new LookupStats();
+        stats.setField(field);
+        stats.setMode(mode);
+        stats.setLookups(latencyNanos.length);
+        stats.setHits(hits);
+        stats.setConcurrency(concurrency);
+        stats.setTotalTimeMs(TimeUnit.NANOSECONDS.toMillis(totalNanos));
+        if (totalNanos > 0) {
+            stats.setThroughputPerSec(latencyNanos.length * 1_000_000_000.0 / totalNanos);
+        }
+
+        long[] latencyMicros = Arrays.stream(latencyNanos).map(TimeUnit.NANOSECONDS::toMicros).sorted().toArray();
+        if (latencyMicros.length > 0) {
+            stats.setAvgLatencyUs(Arrays.stream(latencyMicros).average().orElse(0));
+            stats.setP50LatencyUs(ScenarioStats.percentile(latencyMicros, 50));
+            stats.setP99LatencyUs(ScenarioStats.percentile(latencyMicros, 99));
+            stats.setMaxLatencyUs(latencyMicros[latencyMicros.length - 1]);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hunnit_beasts.thread.util;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+public class MemoryUtils {
+
+    private static final long MB = 1024 * 1024;
+
+    /**
+     * 힙 메모리 풀의 최대 사용량 기록을 현재 사용량으로 초기화
+     */
+    public static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * 마지막 초기화 이후 힙 메모리 풀별 최대 사용량의 합 (MB)
+     * 풀마다 최대치 시점이 다를 수 있어 실제 최대치보다 약간 크게 잡힘
+     */
+    public static long peakHeapUsedMb() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak / MB;
+    }
+
+    /**
+     * 현재 다이렉트 버퍼가 차지한 네이티브 메모리 (MB) - 힙 통계에는 잡히지 않음
+     */
+    public static long directMemoryUsedMb() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                return pool.getMemoryUsed() / MB;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,166 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 개별 요청을 크기/시간 창 단위로 모아 한 번에 처리하는 마이크로 배처
+ * - 배치는 maxBatchSize개가 모이거나 첫 항목 이후 linger 시간이 지나면 처리
+ * - handler는 입력과 같은 순서·개수의 결과 목록을 반환해야 하며, 각 호출자의 future로 분배됨
+ * - 큐가 가득 차면 submit이 대기하므로 자연스러운 배압이 생김 (가상 스레드는 저렴하게 대기)
+ */
+@Slf4j
+public class MicroBatcher<T, R> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MS = 100;
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final int maxConcurrentFlushes;
+    private final Function<List<T>, List<R>> handler;
+    private final BlockingQueue<PendingItem<T, R>> queue;
+    private final Semaphore flushPermits;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    public MicroBatcher(String name, int maxBatchSize, Duration linger, int queueCapacity,
+                        int maxConcurrentFlushes, Function<List<T>, List<R>> handler) {
+        if (maxBatchSize <= 0 || queueCapacity <= 0 || maxConcurrentFlushes <= 0) {
+            throw new IllegalArgumentException("배치 크기, 큐 용량, 동시 처리 수는 0보다 커야 합니다");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        this.handler = handler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushPermits = new Semaphore(maxConcurrentFlushes);
+        this.flusher = Thread.ofVirtual().name(name + "-flusher").start(this::runFlushLoop);
+    }
+
+    /**
+     * 항목 제출 - 큐가 가득 차면 공간이 생길 때까지 대기
+     */
+    public CompletableFuture<R> submit(T item) {
+        if (!running) {
+            throw new IllegalStateException(name + " 배처가 종료되었습니다");
+        }
+        PendingItem<T, R> pending = new PendingItem<>(item, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+        // 확인과 put 사이에 close가 큐를 비우고 끝났으면 아무도 꺼내지 않으므로 직접 실패 처리
+        // (remove가 실패하면 flusher나 close가 이미 꺼내 완료시킴)
+        if (!running && queue.remove(pending)) {
+            pending.future().completeExceptionally(new IllegalStateException(name + " 배처가 종료되었습니다"));
+        }
+        return pending.future();
+    }
+
+    public BatchStats stats() {
+        return new BatchStats(batches.sum(), items.sum(), failedBatches.sum());
+    }
+
+    public int queuedItems() {
+        return queue.size();
+    }
+
+    public boolean isClosed() {
+        return !running;
+    }
+
+    /**
+     * 남은 항목을 모두 처리하고 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            flusher.join();
+            // 진행 중인 배치가 끝날 때까지 대기
+            flushPermits.acquire(maxConcurrentFlushes);
+            flushPermits.release(maxConcurrentFlushes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전에 들어온 항목은 실패 처리
+        List<PendingItem<T, R>> stranded = new ArrayList<>();
+        queue.drainTo(stranded);
+        stranded.forEach(pending -> pending.future().completeExceptionally(
+                new IllegalStateException(name + " 배처가 종료되었습니다")));
+    }
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingItem<T, R> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingItem<T, R>> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingItem<T, R> next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 배치 처리 중에도 다음 배치를 모을 수 있도록 별도 가상 스레드에서 처리
+                flushPermits.acquire();
+                Thread.ofVirtual().name(name + "-flush").start(() -> flush(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PendingItem<T, R>> batch) {
+        try {
+            List<T> inputs = batch.stream().map(PendingItem::item).toList();
+            List<R> results = handler.apply(inputs);
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException(
+                        "배치 결과 개수 불일치: 요청 " + batch.size() + "건, 결과 " + results.size() + "건");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            failedBatches.increment();
+            log.warn("{} 배치 처리 실패 ({}건): {}", name, batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        } finally {
+            batches.increment();
+            items.add(batch.size());
+            flushPermits.release();
+        }
+    }
+
+    private record PendingItem<T, R>(T item, CompletableFuture<R> future) {
+    }
+}
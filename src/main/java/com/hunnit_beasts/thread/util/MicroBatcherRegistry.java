@@ -0,0 +1,111 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 설정 키별 마이크로 배처 보관소 - 최근에 쓴 maxBatchers개만 유지
+ * - 배처마다 flusher 가상 스레드가 하나씩 돌므로, 요청 파라미터 조합마다 만들어 두면 스레드가 계속 늘어남
+ * - 한도를 넘으면 가장 오래 쓰지 않은 배처를 빼고 별도 가상 스레드에서 close (남은 항목은 처리 후 종료)
+ */
+public class MicroBatcherRegistry<T, R> implements AutoCloseable {
+
+    private final String name;
+    private final int maxBatchers;
+    // 접근 순서 LinkedHashMap이라 조회도 순서를 바꾸므로 잠금 안에서만 접근
+    private final Map<String, MicroBatcher<T, R>> batchers = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public MicroBatcherRegistry(String name, int maxBatchers) {
+        if (maxBatchers <= 0) {
+            throw new IllegalArgumentException("maxBatchers는 0보다 커야 합니다");
+        }
+        this.name = name;
+        this.maxBatchers = maxBatchers;
+    }
+
+    /**
+     * 키에 해당하는 배처 - 없으면 factory로 만들고, 한도를 넘으면 가장 오래된 배처를 종료
+     */
+    public MicroBatcher<T, R> get(String key, Function<String, MicroBatcher<T, R>> factory) {
+        MicroBatcher<T, R> evicted = null;
+        MicroBatcher<T, R> batcher;
+        lock.lock();
+        try {
+            batcher = batchers.get(key);
+            if (batcher == null) {
+                batcher = factory.apply(key);
+                batchers.put(key, batcher);
+                if (batchers.size() > maxBatchers) {
+                    Iterator<MicroBatcher<T, R>> eldest = batchers.values().iterator();
+                    evicted = eldest.next();
+                    eldest.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (evicted != null) {
+            // close는 진행 중인 배치를 기다리므로 호출자 스레드에서 하지 않음
+            Thread.ofVirtual().name(name + "-evict").start(evicted::close);
+        }
+        return batcher;
+    }
+
+    /**
+     * 이미 있는 배처만 조회 (없으면 null) - 통계 조회처럼 배처를 새로 만들 필요가 없는 경우
+     * 새로 만들면 사용 중인 배처가 밀려나 종료될 수 있으므로 get 대신 사용
+     */
+    public MicroBatcher<T, R> find(String key) {
+        lock.lock();
+        try {
+            return batchers.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 배처로 제출 - 방금 제거되어 종료된 배처를 잡았으면 새 배처로 다시 제출
+     */
+    public CompletableFuture<R> submit(String key, Function<String, MicroBatcher<T, R>> factory, T item) {
+        while (true) {
+            MicroBatcher<T, R> batcher = get(key, factory);
+            try {
+                return batcher.submit(item);
+            } catch (IllegalStateException e) {
+                if (!batcher.isClosed()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return batchers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        List<MicroBatcher<T, R>> remaining;
+        lock.lock();
+        try {
+            remaining = new ArrayList<>(batchers.values());
+            batchers.clear();
+        } finally {
+            lock.unlock();
+        }
+        remaining.forEach(MicroBatcher::close);
+    }
+}
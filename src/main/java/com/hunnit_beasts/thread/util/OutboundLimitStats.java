@@ -0,0 +1,25 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 호출 제한(벌크헤드 + 속도 제한) 통계 스냅샷 - 제한을 쓰지 않으면 해당 항목은 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboundLimitStats {
+    private BulkheadStats bulkhead;
+    private RateLimiterStats rateLimiter;
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public OutboundLimitStats since(OutboundLimitStats before) {
+        return new OutboundLimitStats(
+                bulkhead != null && before.bulkhead != null ? bulkhead.since(before.bulkhead) : bulkhead,
+                rateLimiter != null && before.rateLimiter != null ? rateLimiter.since(before.rateLimiter) : rateLimiter);
+    }
+}
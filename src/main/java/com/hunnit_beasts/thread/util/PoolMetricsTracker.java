@@ -0,0 +1,76 @@
+package com.hunnit_beasts.thread.util;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 지표 수집기 - 연결 획득 대기 시간, 사용 시간, 타임아웃을 누적
+ * 대기 중인 스레드 수는 Hikari가 콜백으로 알려주지 않으므로 호출 측에서 표본을 기록
+ */
+public class PoolMetricsTracker implements IMetricsTracker {
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxPendingThreads = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquisitions.increment();
+        acquireNanos.add(elapsedAcquiredNanos);
+        maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageMillis.add(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+    }
+
+    /**
+     * 커넥션 풀의 현재 대기 스레드 수 표본 기록
+     */
+    public void samplePendingThreads(HikariPoolMXBean pool) {
+        if (pool != null) {
+            maxPendingThreads.accumulate(pool.getThreadsAwaitingConnection());
+        }
+    }
+
+    /**
+     * 최대치(대기 시간, 대기 스레드 수) 초기화 - 실행 단위로 최대치를 보기 위해 사용
+     */
+    public void resetPeaks() {
+        maxAcquireNanos.reset();
+        maxPendingThreads.reset();
+    }
+
+    /**
+     * 누적 커넥션 획득 횟수
+     */
+    public long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    public ConnectionPoolStats stats(HikariPoolMXBean pool, int maxPoolSize) {
+        return new ConnectionPoolStats(
+                maxPoolSize,
+                pool != null ? pool.getActiveConnections() : 0,
+                pool != null ? pool.getIdleConnections() : 0,
+                (int) maxPendingThreads.get(),
+                acquisitions.sum(),
+                TimeUnit.NANOSECONDS.toMillis(acquireNanos.sum()),
+                TimeUnit.NANOSECONDS.toMillis(maxAcquireNanos.get()),
+                usageMillis.sum(),
+                timeouts.sum());
+    }
+}
@@ -0,0 +1,69 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이름 접두사로 거른 상품 가격의 합계/평균/백분위수/히스토그램과 계산 시간
+ * - 백분위수는 nearest-rank (SQL의 PERCENTILE_DISC와 같은 값)
+ * - 히스토그램은 [min, max]를 buckets개의 같은 폭 구간으로 나눈 개수 (max는 마지막 구간)
+ */
+@Data
+@NoArgsConstructor
+public class PriceAnalytics {
+    private String engine;
+    private String namePrefix;
+    private long count;
+    private double sum;
+    private double avg;
+    private double min;
+    private double max;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double bucketWidth;
+    private long[] histogram;
+    // 엔티티 로딩/스냅샷 생성 시간 (SQL은 0, 스냅샷을 재사용하면 0)
+    private long loadMs;
+    private long computeMs;
+
+    public long getTotalMs() {
+        return loadMs + computeMs;
+    }
+
+    /**
+     * 정렬된 가격 배열로 합계 외의 통계를 채움
+     */
+    public void applySorted(double[] sorted, double sum) {
+        count = sorted.length;
+        this.sum = sum;
+        if (sorted.length > 0) {
+            avg = sum / sorted.length;
+            min = sorted[0];
+            max = sorted[sorted.length - 1];
+            p50 = percentile(sorted, 50);
+            p90 = percentile(sorted, 90);
+            p99 = percentile(sorted, 99);
+        }
+    }
+
+    public static double percentile(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * 구간 폭 - 모든 값이 같으면 1로 두어 전부 첫 구간에 넣음
+     */
+    public static double bucketWidth(double min, double max, int buckets) {
+        return max > min ? (max - min) / buckets : 1.0;
+    }
+
+    // SQL 엔진의 LEAST(FLOOR((price - min) / width), buckets - 1)과 같은 계산
+    public static int bucketOf(double price, double min, double width, int buckets) {
+        return (int) Math.min(buckets - 1, Math.floor((price - min) / width));
+    }
+}
@@ -0,0 +1,152 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 상품 이름/가격 열 스냅샷 - 객체 대신 원시 배열로 두고 fork/join으로 구간별 병렬 스캔
+ * 만든 시점의 값이므로 이후 저장/수정은 반영되지 않음 (다시 만들어야 함)
+ */
+public class PriceColumnSnapshot {
+
+    // 작업 하나가 스캔하는 행 수 - 분할 비용보다 충분히 크게
+    private static final int LEAF_SIZE = 64 * 1024;
+
+    private final String[] names;
+    private final double[] prices;
+
+    public PriceColumnSnapshot(String[] names, double[] prices) {
+        this.names = names;
+        this.prices = prices;
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * 접두사에 맞는 가격으로 통계 계산
+     * 1) 구간별 개수 → 2) 구간별 오프셋에 복사 → 3) parallelSort → 4) 구간별 합계/히스토그램
+     */
+    public PriceAnalytics analyze(String prefix, int buckets) {
+        double[] selected = select(prefix);
+        Arrays.parallelSort(selected);
+
+        int leaves = leafCount(selected.length);
+        double[] partialSums = new double[leaves];
+        forEachLeaf(leaves, leaf -> {
+            double sum = 0;
+            for (int i = leafStart(leaf); i < leafEnd(leaf, selected.length); i++) {
+                sum += selected[i];
+            }
+            partialSums[leaf] = sum;
+        });
+
+        PriceAnalytics analytics = new PriceAnalytics();
+        analytics.setNamePrefix(prefix);
+        analytics.applySorted(selected, Arrays.stream(partialSums).sum());
+        analytics.setBucketWidth(PriceAnalytics.bucketWidth(analytics.getMin(), analytics.getMax(), buckets));
+        analytics.setHistogram(histogram(selected, leaves, analytics.getMin(), analytics.getBucketWidth(), buckets));
+        return analytics;
+    }
+
+    private double[] select(String prefix) {
+        int leaves = leafCount(prices.length);
+        int[] counts = new int[leaves];
+        forEachLeaf(leaves, leaf -> {
+            int count = 0;
+            for (int i = leafStart(leaf); i < leafEnd(leaf, prices.length); i++) {
+                if (matches(i, prefix)) {
+                    count++;
+                }
+            }
+            counts[leaf] = count;
+        });
+
+        int[] offsets = new int[leaves];
+        int total = 0;
+        for (int leaf = 0; leaf < leaves; leaf++) {
+            offsets[leaf] = total;
+            total += counts[leaf];
+        }
+
+        double[] selected = new double[total];
+        forEachLeaf(leaves, leaf -> {
+            int out = offsets[leaf];
+            for (int i = leafStart(leaf); i < leafEnd(leaf, prices.length); i++) {
+                if (matches(i, prefix)) {
+                    selected[out++] = prices[i];
+                }
+            }
+        });
+        return selected;
+    }
+
+    private static long[] histogram(double[] values, int leaves, double min, double width, int buckets) {
+        long[][] partials = new long[leaves][buckets];
+        forEachLeaf(leaves, leaf -> {
+            long[] counts = partials[leaf];
+            for (int i = leafStart(leaf); i < leafEnd(leaf, values.length); i++) {
+                counts[PriceAnalytics.bucketOf(values[i], min, width, buckets)]++;
+            }
+        });
+
+        long[] histogram = new long[buckets];
+        for (long[] partial : partials) {
+            for (int b = 0; b < buckets; b++) {
+                histogram[b] += partial[b];
+            }
+        }
+        return histogram;
+    }
+
+    // 이름이 없는 상품은 SQL의 LIKE와 마찬가지로 어떤 접두사에도 맞지 않음
+    private boolean matches(int row, String prefix) {
+        return names[row] != null && names[row].startsWith(prefix);
+    }
+
+    private static int leafCount(int rows) {
+        return (rows + LEAF_SIZE - 1) / LEAF_SIZE;
+    }
+
+    private static int leafStart(int leaf) {
+        return leaf * LEAF_SIZE;
+    }
+
+    private static int leafEnd(int leaf, int rows) {
+        return Math.min(rows, (leaf + 1) * LEAF_SIZE);
+    }
+
+    private static void forEachLeaf(int leaves, IntConsumer body) {
+        if (leaves > 0) {
+            ForkJoinPool.commonPool().invoke(new LeafAction(0, leaves, body));
+        }
+    }
+
+    /**
+     * 구간 번호 [from, to)를 반씩 나눠 구간 하나씩 body 실행
+     */
+    private static final class LeafAction extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        private LeafAction(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LeafAction(from, mid, body), new LeafAction(mid, to, body));
+        }
+    }
+}
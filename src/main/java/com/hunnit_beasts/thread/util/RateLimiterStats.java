@@ -0,0 +1,33 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 속도 제한 대기 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimiterStats {
+    private int permitsPerSecond;
+    private int burst;
+    // 허가를 받은 호출 수
+    private long acquired;
+    // 토큰을 기다린 호출 수
+    private long delayed;
+    private long totalWaitMs;
+
+    public double getAvgWaitMs() {
+        return acquired == 0 ? 0.0 : (double) totalWaitMs / acquired;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public RateLimiterStats since(RateLimiterStats before) {
+        return new RateLimiterStats(permitsPerSecond, burst, acquired - before.acquired,
+                delayed - before.delayed, totalWaitMs - before.totalWaitMs);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 읽기 한 번의 CPU/할당 비용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadCostStats {
+    private String mode;
+    private long rows;
+    private int pageSize;
+    private long elapsedMs;
+    private long cpuNanos;
+    private long allocatedBytes;
+
+    public double getCpuMicrosPerRow() {
+        return rows == 0 ? 0.0 : cpuNanos / 1000.0 / rows;
+    }
+
+    public double getAllocatedBytesPerRow() {
+        return rows == 0 ? 0.0 : (double) allocatedBytes / rows;
+    }
+}
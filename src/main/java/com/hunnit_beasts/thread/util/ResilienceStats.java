@@ -0,0 +1,30 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 호출 회복 탄력성(재시도 + 회로 차단) 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResilienceStats {
+    // 업스트림으로 실제로 나간 요청 수 (재시도, 헤지 포함)
+    private long upstreamCalls;
+    // 실패한 업스트림 요청 수 (낭비된 동시성)
+    private long upstreamFailures;
+    private RetryStats retry;
+    private CircuitBreakerStats circuitBreaker;
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public ResilienceStats since(ResilienceStats before) {
+        return new ResilienceStats(upstreamCalls - before.upstreamCalls,
+                upstreamFailures - before.upstreamFailures,
+                retry.since(before.retry),
+                circuitBreaker.since(before.circuitBreaker));
+    }
+}
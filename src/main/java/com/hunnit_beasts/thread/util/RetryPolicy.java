@@ -0,0 +1,67 @@
+package com.hunnit_beasts.thread.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 재시도 정책 - 최대 시도 횟수 + decorrelated jitter 백오프
+ * 대기 시간 = min(maxDelay, random(baseDelay, 이전 대기 시간 * 3))
+ * 재시도가 한 시점에 몰리지 않도록 대기 시간을 무작위로 흩뜨림
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMs = baseDelay.toMillis();
+        this.maxDelayMs = Math.max(baseDelayMs, maxDelay.toMillis());
+    }
+
+    /**
+     * @param retryable 재시도할 예외인지 판단 (false면 즉시 실패)
+     */
+    public <V> V execute(Supplier<V> call, Predicate<RuntimeException> retryable) {
+        calls.increment();
+        long delayMs = baseDelayMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (!retryable.test(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                delayMs = Math.min(maxDelayMs,
+                        ThreadLocalRandom.current().nextLong(baseDelayMs, delayMs * 3 + 1));
+                retries.increment();
+                sleep(delayMs);
+            }
+        }
+    }
+
+    public RetryStats stats() {
+        return new RetryStats(calls.sum(), retries.sum(), exhausted.sum());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("스레드가 중단되었습니다", e);
+        }
+    }
+}
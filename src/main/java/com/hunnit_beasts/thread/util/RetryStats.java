@@ -0,0 +1,27 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryStats {
+    // 재시도 정책을 거친 호출 수
+    private long calls;
+    // 재시도 횟수 (첫 시도 제외)
+    private long retries;
+    // 최대 시도 횟수를 모두 쓰고 실패한 호출 수
+    private long exhausted;
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public RetryStats since(RetryStats before) {
+        return new RetryStats(calls - before.calls, retries - before.retries, exhausted - before.exhausted);
+    }
+}
@@ -0,0 +1,73 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번의 실행 결과 목록을 처리량/지연 시간 분포로 요약한 통계
+ */
+@Data
+@NoArgsConstructor
+public class ScenarioStats {
+    private String scenarioName;
+    private int taskCount;
+    private int successCount;
+    private long totalTimeMs;
+    private double throughputPerSec;
+    // 성공한 작업 기준 처리량
+    private double goodputPerSec;
+    private double avgLatencyMs;
+    private long p50LatencyMs;
+    private long p95LatencyMs;
+    private long p99LatencyMs;
+    private long maxLatencyMs;
+    private Map<String, Object> metrics = new LinkedHashMap<>();
+
+    /**
+     * 실행 결과 목록과 전체 소요 시간으로 통계 생성
+     */
+    public static ScenarioStats of(String scenarioName, List<? extends ExecutionResult<?>> results, long totalTimeMs) {
+        ScenarioStats stats = new ScenarioStats();
+        stats.setScenarioName(scenarioName);
+        stats.setTaskCount(results.size());
+        stats.setTotalTimeMs(totalTimeMs);
+
+        long[] latencies = results.stream()
+                .mapToLong(ExecutionResult::getExecutionTimeMs)
+                .sorted()
+                .toArray();
+        stats.setSuccessCount((int) results.stream().filter(ExecutionResult::isSuccess).count());
+        if (totalTimeMs > 0) {
+            stats.setThroughputPerSec(results.size() * 1000.0 / totalTimeMs);
+            stats.setGoodputPerSec(stats.getSuccessCount() * 1000.0 / totalTimeMs);
+        }
+        if (latencies.length > 0) {
+            stats.setAvgLatencyMs(Arrays.stream(latencies).average().orElse(0));
+            stats.setP50LatencyMs(percentile(latencies, 50));
+            stats.setP95LatencyMs(percentile(latencies, 95));
+            stats.setP99LatencyMs(percentile(latencies, 99));
+            stats.setMaxLatencyMs(latencies[latencies.length - 1]);
+        }
+        return stats;
+    }
+
+    /**
+     * 정렬된 배열에서 nearest-rank 방식으로 백분위수 계산
+     */
+    public static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    public void addMetric(String name, Object value) {
+        metrics.put(name, value);
+    }
+}
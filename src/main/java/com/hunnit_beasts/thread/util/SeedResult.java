@@ -0,0 +1,29 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 데이터 적재 결과
+ */
+@Data
+@NoArgsConstructor
+public class SeedResult {
+    private String mode;
+    private long users;
+    private long products;
+    private int parallelism;
+    private long elapsedMs;
+
+    public SeedResult(String mode, long users, long products, int parallelism, long elapsedMs) {
+        this.mode = mode;
+        this.users = users;
+        this.products = products;
+        this.parallelism = parallelism;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public double getRowsPerSec() {
+        return elapsedMs == 0 ? 0.0 : (users + products) * 1000.0 / elapsedMs;
+    }
+}
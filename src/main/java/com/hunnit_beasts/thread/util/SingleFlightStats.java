@@ -0,0 +1,27 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요청 병합(single-flight) 통계 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SingleFlightStats {
+    // 전체 요청 수
+    private long calls;
+    // 실제로 실행된 호출 수
+    private long executions;
+    // 진행 중인 호출에 합류해 절약된 호출 수
+    private long saved;
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public SingleFlightStats since(SingleFlightStats before) {
+        return new SingleFlightStats(calls - before.calls, executions - before.executions, saved - before.saved);
+    }
+}
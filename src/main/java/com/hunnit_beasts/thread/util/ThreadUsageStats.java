@@ -0,0 +1,31 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 번의 실행에서 사용한 스레드 수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadUsageStats {
+    // 실행 중 JVM 플랫폼 스레드 수 최대치 (가상 스레드는 포함되지 않음)
+    private int peakPlatformThreads;
+    // 작업을 완료한 서로 다른 스레드 수 (가상 스레드는 이름이 없으므로 id 기준)
+    private long distinctThreads;
+
+    /**
+     * 실행 결과 목록과 플랫폼 스레드 최대치로 생성
+     */
+    public static ThreadUsageStats of(List<? extends ExecutionResult<?>> results, int peakPlatformThreads) {
+        long distinctThreads = results.stream()
+                .map(ExecutionResult::getThreadId)
+                .distinct()
+                .count();
+        return new ThreadUsageStats(peakPlatformThreads, distinctThreads);
+    }
+}
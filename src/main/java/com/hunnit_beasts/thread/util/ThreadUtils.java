@@ -1,8 +1,11 @@
 package com.hunnit_beasts.thread.util;
 
 import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 @Slf4j
@@ -24,38 +27,77 @@ public class ThreadUtils {
         return result;
     }
 
+    /**
+     * JVM 스레드 수 최대치 기록을 현재 스레드 수로 초기화
+     */
+    public static void resetPeakThreadCount() {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    /**
+     * 마지막 초기화 이후 JVM 플랫폼 스레드 수 최대치 (가상 스레드는 집계되지 않음)
+     */
+    public static int peakThreadCount() {
+        return ManagementFactory.getThreadMXBean().getPeakThreadCount();
+    }
+
+    /**
+     * 현재 스레드가 사용한 CPU 시간 (ns) - 가상 스레드는 지원되지 않아 -1
+     */
+    public static long currentThreadCpuNanos() {
+        return ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 힙 바이트 수 - 가상 스레드는 지원되지 않아 -1
+     */
+    public static long currentThreadAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
     /**
      * CompletableFuture에 대한 실행 정보를 포함하는 래퍼 메서드
      */
     public static <T> CompletableFuture<ExecutionResult<T>> executeWithMetrics(
             String taskName, Callable<T> task) {
 
-        return CompletableFuture.supplyAsync(() -> {
-            long startTime = System.currentTimeMillis();
-            ExecutionResult<T> result = new ExecutionResult<>();
-            result.setTaskName(taskName);
-            result.setThreadName(Thread.currentThread().getName());
-            result.setThreadId(Thread.currentThread().threadId());
-            result.setVirtualThread(Thread.currentThread().isVirtual());
-
-            try {
-                T taskResult = task.call();
-                result.setSuccess(true);
-                result.setResult(taskResult);
-            } catch (Exception e) {
-                result.setSuccess(false);
-                result.setErrorMessage(e.getMessage());
-                log.error("작업 {} 실행 중 오류 발생: {}", taskName, e.getMessage(), e);
-            }
-
-            long endTime = System.currentTimeMillis();
-            result.setExecutionTimeMs(endTime - startTime);
-
-            log.info("작업 '{}'이(가) {}ms 동안 스레드: {} (가상: {})에서 완료되었습니다.",
-                    taskName, result.getExecutionTimeMs(), result.getThreadName(),
-                    result.isVirtualThread());
-
-            return result;
-        });
+        return CompletableFuture.supplyAsync(() -> runWithMetrics(taskName, task));
+    }
+
+    /**
+     * 지정한 실행자(가상/플랫폼 스레드)에서 작업을 실행하고 실행 정보를 수집하는 래퍼 메서드
+     */
+    public static <T> CompletableFuture<ExecutionResult<T>> executeWithMetrics(
+            String taskName, Callable<T> task, Executor executor) {
+
+        return CompletableFuture.supplyAsync(() -> runWithMetrics(taskName, task), executor);
+    }
+
+    private static <T> ExecutionResult<T> runWithMetrics(String taskName, Callable<T> task) {
+        long startTime = System.currentTimeMillis();
+        ExecutionResult<T> result = new ExecutionResult<>();
+        result.setTaskName(taskName);
+        result.setThreadName(Thread.currentThread().getName());
+        result.setThreadId(Thread.currentThread().threadId());
+        result.setVirtualThread(Thread.currentThread().isVirtual());
+
+        try {
+            T taskResult = task.call();
+            result.setSuccess(true);
+            result.setResult(taskResult);
+        } catch (Exception e) {
+            result.setSuccess(false);
+            result.setErrorMessage(e.getMessage());
+            log.error("작업 {} 실행 중 오류 발생: {}", taskName, e.getMessage(), e);
+        }
+
+        long endTime = System.currentTimeMillis();
+        result.setExecutionTimeMs(endTime - startTime);
+
+        log.info("작업 '{}'이(가) {}ms 동안 스레드: {} (가상: {})에서 완료되었습니다.",
+                taskName, result.getExecutionTimeMs(), result.getThreadName(),
+                result.isVirtualThread());
+
+        return result;
     }
 }
\ No newline at end of file
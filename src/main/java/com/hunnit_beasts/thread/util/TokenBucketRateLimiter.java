@@ -0,0 +1,72 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 락 없는 토큰 버킷 속도 제한 (GCRA 방식)
+ * - 다음 토큰이 생기는 이론적 시각 하나만 CAS로 갱신해 자기 차례를 예약
+ * - 예약한 시각까지 parkNanos로 대기 (가상 스레드는 캐리어를 반납하므로 대기 비용이 작음)
+ */
+public class TokenBucketRateLimiter {
+
+    private final int permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    // 다음 허가의 이론적 도착 시각 (nanoTime 기준)
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    /**
+     * @param burst 쉬고 있던 뒤 연속으로 바로 허가할 수 있는 수
+     */
+    public TokenBucketRateLimiter(int permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burstToleranceNanos = intervalNanos * (this.burst - 1);
+    }
+
+    /**
+     * 허가 하나를 받을 때까지 대기
+     */
+    public void acquire() {
+        long waitNanos;
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = theoreticalArrival.get();
+            long base = Math.max(arrival, now);
+            if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                // 버스트 허용치만큼 앞당겨 허가, 그 이상은 예약 시각까지 대기
+                waitNanos = base - burstToleranceNanos - now;
+                break;
+            }
+        }
+        acquired.increment();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        delayed.increment();
+        totalWaitNanos.add(waitNanos);
+        long deadline = System.nanoTime() + waitNanos;
+        for (long remaining = waitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("스레드가 중단되었습니다");
+            }
+        }
+    }
+
+    public RateLimiterStats stats() {
+        return new RateLimiterStats(permitsPerSecond, burst, acquired.sum(), delayed.sum(),
+                totalWaitNanos.sum() / 1_000_000);
+    }
+}
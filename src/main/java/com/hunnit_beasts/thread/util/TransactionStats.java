@@ -0,0 +1,34 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커넥션 획득/커밋 횟수 스냅샷
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionStats {
+    private long connectionAcquisitions;
+    private long commits;
+    // 집계 구간에 실행한 워크플로우 수 (since로 구한 증가분에만 채워짐)
+    private long workflows;
+
+    public double getAcquisitionsPerWorkflow() {
+        return workflows == 0 ? 0.0 : (double) connectionAcquisitions / workflows;
+    }
+
+    public double getCommitsPerWorkflow() {
+        return workflows == 0 ? 0.0 : (double) commits / workflows;
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분 (workflows개 워크플로우 기준)
+     */
+    public TransactionStats since(TransactionStats before, long workflows) {
+        return new TransactionStats(connectionAcquisitions - before.connectionAcquisitions,
+                commits - before.commits, workflows);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hunnit_beasts.thread.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * TTL 만료와 LRU 크기 제한을 지원하는 동시성 캐시
+ * - 키 해시로 나눈 세그먼트마다 별도 락을 사용하므로 전역 락이 없음
+ * - synchronized 대신 ReentrantLock을 사용해 가상 스레드 핀닝을 피함
+ * - LRU 제거는 세그먼트 단위 - 세그먼트 용량 합이 maxSize이며, 한 세그먼트가 차면 다른 세그먼트에 자리가 있어도
+ *   그 세그먼트에서 가장 오래된 항목을 제거 (전역 LRU 순서는 아님)
+ */
+public class TtlLruCache<K, V> {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+    private static final long NEVER_EXPIRES = Long.MIN_VALUE;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public TtlLruCache(int maxSize, long ttlMs) {
+        this(maxSize, ttlMs, DEFAULT_SEGMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TtlLruCache(int maxSize, long ttlMs, int segmentCount) {
+        if (maxSize <= 0 || segmentCount <= 0) {
+            throw new IllegalArgumentException("maxSize와 segmentCount는 0보다 커야 합니다");
+        }
+        // 세그먼트마다 최소 한 칸이 필요하므로 maxSize보다 많이 나누지 않고, 나머지는 앞 세그먼트에 한 칸씩 배분
+        int segmentTotal = Math.min(segmentCount, maxSize);
+        int baseCapacity = maxSize / segmentTotal;
+        int remainder = maxSize % segmentTotal;
+        this.segments = new Segment[segmentTotal];
+        for (int i = 0; i < segmentTotal; i++) {
+            segments[i] = new Segment<>(baseCapacity + (i < remainder ? 1 : 0));
+        }
+        // ttlMs <= 0 이면 만료 없이 크기 제한만 적용
+        this.ttlNanos = Math.max(0, ttlMs) * 1_000_000L;
+    }
+
+    /**
+     * 캐시 조회 - 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            CacheEntry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                segment.entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 저장 - 세그먼트 용량을 넘으면 가장 오래 사용되지 않은 항목부터 축출
+     */
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : NEVER_EXPIRES;
+            segment.entries.put(key, new CacheEntry<>(value, expiresAt));
+            Iterator<Map.Entry<K, CacheEntry<V>>> eldest = segment.entries.entrySet().iterator();
+            while (segment.entries.size() > segment.capacity && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 읽기 전용 조회 (read-through) - 미스면 loader 결과를 저장 후 반환
+     * loader는 락 밖에서 실행되므로 느린 I/O가 세그먼트를 막지 않음
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.entries.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.entries.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+    }
+
+    /**
+     * 통계 카운터 초기화 (저장된 항목은 유지)
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        expirations.reset();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        // accessOrder=true: 조회할 때마다 가장 최근 위치로 이동 (LRU)
+        private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiresAtNanos != NEVER_EXPIRES && now - expiresAtNanos > 0;
+        }
+    }
+}
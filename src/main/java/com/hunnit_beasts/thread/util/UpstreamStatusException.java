@@ -0,0 +1,21 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.Getter;
+
+/**
+ * 업스트림 API가 오류 상태 코드(4xx/5xx)로 응답했음을 나타내는 예외
+ */
+@Getter
+public class UpstreamStatusException extends RuntimeException {
+
+    private final int statusCode;
+
+    public UpstreamStatusException(int statusCode) {
+        super("API 응답 오류: HTTP " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isClientError() {
+        return statusCode >= 400 && statusCode < 500;
+    }
+}
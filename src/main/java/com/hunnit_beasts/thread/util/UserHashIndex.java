@@ -0,0 +1,96 @@
+package com.hunnit_beasts.thread.util;
+
+import com.hunnit_beasts.thread.model.UserLookupField;
+import com.hunnit_beasts.thread.model.UserSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * username/email -> 사용자 해시 인덱스 (키가 유일하지 않을 수 있으므로 키마다 목록)
+ * 조회는 잠금 없이, 변경은 ReentrantLock으로 직렬화 (id별 항목으로 수정/삭제 시 이전 키를 찾음)
+ * - synchronized 대신 ReentrantLock을 사용해 가상 스레드 핀닝을 피함
+ */
+public class UserHashIndex {
+
+    private final Map<Long, UserSummary> byId = new ConcurrentHashMap<>();
+    private final Map<String, List<UserSummary>> byUsername = new ConcurrentHashMap<>();
+    private final Map<String, List<UserSummary>> byEmail = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public List<UserSummary> find(UserLookupField field, String key) {
+        return key == null ? List.of() : keyMap(field).getOrDefault(key, List.of());
+    }
+
+    public void put(UserSummary user) {
+        lock.lock();
+        try {
+            removeEntry(user.id());
+            byId.put(user.id(), user);
+            addKey(byUsername, user.username(), user);
+            addKey(byEmail, user.email(), user);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            byId.clear();
+            byUsername.clear();
+            byEmail.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    // 잠금 안에서 호출
+    private void removeEntry(Long id) {
+        UserSummary previous = byId.remove(id);
+        if (previous != null) {
+            removeKey(byUsername, previous.username(), id);
+            removeKey(byEmail, previous.email(), id);
+        }
+    }
+
+    private Map<String, List<UserSummary>> keyMap(UserLookupField field) {
+        return field == UserLookupField.EMAIL ? byEmail : byUsername;
+    }
+
+    // 목록은 교체만 하고 제자리 수정하지 않으므로 조회 측은 잠금 없이 읽어도 됨
+    private static void addKey(Map<String, List<UserSummary>> map, String key, UserSummary user) {
+        if (key != null) {
+            map.merge(key, List.of(user), (current, added) -> {
+                List<UserSummary> merged = new ArrayList<>(current);
+                merged.addAll(added);
+                return List.copyOf(merged);
+            });
+        }
+    }
+
+    private static void removeKey(Map<String, List<UserSummary>> map, String key, Long id) {
+        if (key != null) {
+            map.computeIfPresent(key, (k, current) -> {
+                List<UserSummary> remaining = current.stream().filter(u -> !u.id().equals(id)).toList();
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+    }
+}
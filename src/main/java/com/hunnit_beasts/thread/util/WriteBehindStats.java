@@ -0,0 +1,27 @@
+package com.hunnit_beasts.thread.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지연 쓰기 배처 통계 스냅샷 (배치 하나 = 커밋 하나)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteBehindStats {
+    private BatchStats users;
+    private BatchStats products;
+
+    public long getCommits() {
+        return users.getBatches() + products.getBatches();
+    }
+
+    /**
+     * 이전 스냅샷 이후 증가분
+     */
+    public WriteBehindStats since(WriteBehindStats before) {
+        return new WriteBehindStats(users.since(before.users), products.since(before.products));
+    }
+}
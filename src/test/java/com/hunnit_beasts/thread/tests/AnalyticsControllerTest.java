@@ -0,0 +1,186 @@
+package com.hunnit_beasts.thread.tests;
+
+import com.hunnit_beasts.thread.model.AnalyticsEngine;
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.SeedMode;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.service.DataSeedService;
+import com.hunnit_beasts.thread.service.ProductAnalyticsService;
+import com.hunnit_beasts.thread.util.PriceAnalytics;
+import com.hunnit_beasts.thread.util.SeedResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("📈 상품 가격 통계 컨트롤러 테스트")
+class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductAnalyticsService productAnalyticsService;
+
+    @MockitoBean
+    private DataSeedService dataSeedService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private PriceAnalytics mockAnalytics;
+
+    @BeforeEach
+    void setUp() {
+        // 가격 1000~5000 다섯 건을 두 구간으로 나눈 결과
+        mockAnalytics = new PriceAnalytics();
+        mockAnalytics.setNamePrefix("상품");
+        mockAnalytics.applySorted(new double[]{1000, 2000, 3000, 4000, 5000}, 15000);
+        mockAnalytics.setBucketWidth(2000);
+        mockAnalytics.setHistogram(new long[]{2, 3});
+        mockAnalytics.setLoadMs(120);
+        mockAnalytics.setComputeMs(30);
+    }
+
+    @Test
+    @DisplayName("📊 가격 통계 - 열 스냅샷 방식으로 합계/평균/백분위수/히스토그램 반환")
+    void testAnalyzePrices() throws Exception {
+        // Given
+        mockAnalytics.setEngine("COLUMNAR");
+        when(productAnalyticsService.analyze(AnalyticsEngine.COLUMNAR, "상품", 2)).thenReturn(mockAnalytics);
+
+        // When & Then
+        mockMvc.perform(get("/analytics/prices")
+                        .param("prefix", "상품")
+                        .param("buckets", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.engine").value("COLUMNAR"))
+                .andExpect(jsonPath("$.count").value(5))
+                .andExpect(jsonPath("$.avg").value(3000.0))
+                .andExpect(jsonPath("$.p50").value(3000.0))
+                .andExpect(jsonPath("$.p99").value(5000.0))
+                .andExpect(jsonPath("$.histogram[1]").value(3))
+                .andExpect(jsonPath("$.totalMs").value(150));
+    }
+
+    @Test
+    @DisplayName("📏 가격 통계 - 구간 수는 1~1000으로 제한")
+    void testAnalyzePricesClampsBuckets() throws Exception {
+        // Given
+        when(productAnalyticsService.analyze(AnalyticsEngine.SQL, "", 1000)).thenReturn(mockAnalytics);
+        when(productAnalyticsService.analyze(AnalyticsEngine.SQL, "", 1)).thenReturn(mockAnalytics);
+
+        // When & Then
+        mockMvc.perform(get("/analytics/prices")
+                        .param("engine", "SQL")
+                        .param("buckets", "100000000"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/analytics/prices")
+                        .param("engine", "SQL")
+                        .param("buckets", "-5"))
+                .andExpect(status().isOk());
+        verify(productAnalyticsService).analyze(AnalyticsEngine.SQL, "", 1000);
+        verify(productAnalyticsService).analyze(AnalyticsEngine.SQL, "", 1);
+    }
+
+    @Test
+    @DisplayName("⚔️📈 가격 통계 방식 비교 - 상품 적재 후 SQL/parallelStream/열 스냅샷의 로딩·계산 시간 보고")
+    void testComparePriceEngines() throws Exception {
+        // Given
+        when(dataSeedService.seed(SeedMode.NATIVE, 0L, 1_000_000L, 4, true))
+                .thenReturn(new SeedResult("NATIVE", 0, 1_000_000, 4, 1500));
+        when(productAnalyticsService.compare("", 10)).thenReturn(List.of(mockAnalytics, mockAnalytics, mockAnalytics));
+
+        // When & Then
+        mockMvc.perform(get("/analytics/prices/compare")
+                        .param("rows", "1000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].count").value(5));
+        verify(dataSeedService).seed(SeedMode.NATIVE, 0L, 1_000_000L, 4, true);
+    }
+
+    @Test
+    @DisplayName("🧮 세 방식 일치 - 작은 데이터에서 SQL/parallelStream/열 스냅샷의 개수·합계·백분위수·히스토그램이 같음")
+    void testEnginesAgreeOnSmallDataset() {
+        // Given - 다른 테스트 데이터와 섞이지 않는 접두사, 가격 없는 상품/이름 없는 상품/LIKE 특수 문자 포함
+        List<Product> products = new ArrayList<>();
+        double[] prices = {100, 250, 250, 400, 975, 1000, 1200, 3300, 5000, 9999};
+        for (int i = 0; i < prices.length; i++) {
+            products.add(new Product("엔진비교_다수-" + i, prices[i]));
+        }
+        products.add(new Product("엔진비교_다수-가격없음", null));
+        products.add(new Product("엔진비교X다수-와일드카드", 123.0));
+        products.add(new Product(null, 777.0));
+        products.add(new Product("엔진비교_단일-0", 4200.0));
+        productRepository.saveAll(products);
+        // 실제 서비스로 계산 (컨트롤러 테스트용 목과 별개)
+        ProductAnalyticsService service = new ProductAnalyticsService(jdbcTemplate, productRepository);
+
+        try {
+            // When & Then - 여러 건
+            PriceAnalytics many = assertEnginesAgree(service, "엔진비교_다수", 4);
+            assertEquals(10, many.getCount());
+            assertEquals(22474.0, many.getSum());
+            assertEquals(975.0, many.getP50());
+            assertEquals(5000.0, many.getP90());
+            assertEquals(9999.0, many.getP99());
+            assertArrayEquals(new long[]{7, 2, 0, 1}, many.getHistogram());
+
+            // 한 건 - 모든 백분위수가 그 값이고 전부 첫 구간
+            PriceAnalytics single = assertEnginesAgree(service, "엔진비교_단일", 4);
+            assertEquals(1, single.getCount());
+            assertEquals(4200.0, single.getP50());
+            assertEquals(4200.0, single.getP99());
+            assertArrayEquals(new long[]{1, 0, 0, 0}, single.getHistogram());
+
+            // 맞는 상품 없음
+            PriceAnalytics empty = assertEnginesAgree(service, "엔진비교_없음", 4);
+            assertEquals(0, empty.getCount());
+            assertEquals(0.0, empty.getSum());
+            assertArrayEquals(new long[4], empty.getHistogram());
+        } finally {
+            jdbcTemplate.update("DELETE FROM product WHERE name LIKE '엔진비교%' OR (name IS NULL AND price = 777)");
+        }
+    }
+
+    private static PriceAnalytics assertEnginesAgree(ProductAnalyticsService service, String prefix, int buckets) {
+        // 데이터를 넣은 뒤의 열 스냅샷으로 계산하도록 비움
+        service.invalidateSnapshot();
+        PriceAnalytics expected = service.analyze(AnalyticsEngine.SQL, prefix, buckets);
+        for (AnalyticsEngine engine : List.of(AnalyticsEngine.PARALLEL_STREAM, AnalyticsEngine.COLUMNAR)) {
+            PriceAnalytics actual = service.analyze(engine, prefix, buckets);
+            String message = engine + " vs SQL, 접두사: " + prefix;
+            assertEquals(expected.getCount(), actual.getCount(), message);
+            assertEquals(expected.getSum(), actual.getSum(), message);
+            assertEquals(expected.getP50(), actual.getP50(), message);
+            assertEquals(expected.getP90(), actual.getP90(), message);
+            assertEquals(expected.getP99(), actual.getP99(), message);
+            assertEquals(expected.getBucketWidth(), actual.getBucketWidth(), message);
+            assertArrayEquals(expected.getHistogram(), actual.getHistogram(), message);
+        }
+        return expected;
+    }
+}
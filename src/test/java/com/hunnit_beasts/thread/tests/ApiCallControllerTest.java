@@ -2,10 +2,26 @@ package com.hunnit_beasts.thread.tests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hunnit_beasts.thread.controller.ApiCallController;
+import com.hunnit_beasts.thread.model.ApiBackend;
+import com.hunnit_beasts.thread.model.ApiCallOptions;
 import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.ListDecodeMode;
+import com.hunnit_beasts.thread.model.PostListSummary;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
 import com.hunnit_beasts.thread.service.ApiCallService;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.BulkheadStats;
+import com.hunnit_beasts.thread.util.CacheStats;
+import com.hunnit_beasts.thread.util.CircuitBreaker;
+import com.hunnit_beasts.thread.util.CircuitBreakerStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.HedgeStats;
+import com.hunnit_beasts.thread.util.OutboundLimitStats;
+import com.hunnit_beasts.thread.util.RateLimiterStats;
+import com.hunnit_beasts.thread.util.ResilienceStats;
+import com.hunnit_beasts.thread.util.RetryStats;
+import com.hunnit_beasts.thread.util.SingleFlightStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +35,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -68,7 +88,7 @@ class ApiCallControllerTest {
     @DisplayName("📡 단일 API 호출 - JSONPlaceholder에서 단일 포스트 조회")
     void testSingleApiCall() throws Exception {
         // Given
-        when(apiCallService.callSingleApi(1)).thenReturn(mockApiResponse);
+        when(apiCallService.callSingleApi(eq(1), any(ApiCallOptions.class))).thenReturn(mockApiResponse);
 
         // When & Then
         mockMvc.perform(get("/api/single"))
@@ -81,7 +101,7 @@ class ApiCallControllerTest {
     void testMultipleApiCalls() throws Exception {
         // Given
         List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
-        when(apiCallService.callMultipleApisWithVirtualThread(anyInt())).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/api/multiple")
@@ -97,7 +117,7 @@ class ApiCallControllerTest {
     void testMultipleApiCallsWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
-        when(apiCallService.callMultipleApisWithVirtualThread(10)).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithVirtualThread(eq(10), any(ApiCallOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/api/multiple"))
@@ -110,8 +130,8 @@ class ApiCallControllerTest {
     void testCompareApiCalls() throws Exception {
         // Given
         List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
-        when(apiCallService.callMultipleApisWithVirtualThread(anyInt())).thenReturn(mockResults);
-        when(apiCallService.callMultipleApisWithPlatformThread(anyInt())).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithPlatformThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/api/compare")
@@ -128,8 +148,8 @@ class ApiCallControllerTest {
     void testCompareApiCallsWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
-        when(apiCallService.callMultipleApisWithVirtualThread(50)).thenReturn(mockResults);
-        when(apiCallService.callMultipleApisWithPlatformThread(50)).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithVirtualThread(eq(50), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.callMultipleApisWithPlatformThread(eq(50), any(ApiCallOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/api/compare"))
@@ -137,4 +157,250 @@ class ApiCallControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.taskCount").value(50));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("🔌 HttpClient 백엔드 선택 - backend 파라미터가 서비스 옵션으로 전달")
+    void testMultipleApiCallsWithHttpClientBackend() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(eq(5),
+                argThat(options -> options.getBackend() == ApiBackend.HTTP_CLIENT_SYNC)))
+                .thenReturn(mockResults);
+
+        // When & Then
+        mockMvc.perform(get("/api/multiple")
+                        .param("count", "5")
+                        .param("backend", "HTTP_CLIENT_SYNC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].taskName").value("Test API Call"));
+    }
+
+    @Test
+    @DisplayName("🔌⚔️ API 백엔드 비교 - WebClient vs HttpClient(send/sendAsync) 통계")
+    void testCompareApiBackends() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-backends")
+                        .param("count", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(ApiBackend.values().length))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 백엔드 비교 - WEBCLIENT"))
+                .andExpect(jsonPath("$[0].successCount").value(1))
+                .andExpect(jsonPath("$[0].p99LatencyMs").value(100));
+    }
+
+    @Test
+    @DisplayName("🗃️ API 응답 캐시 통계 - 적중/미스/축출 수와 적중률 조회")
+    void testCacheStats() throws Exception {
+        // Given
+        when(apiCallService.getCacheStats()).thenReturn(new CacheStats(30, 10, 2, 1, 40));
+
+        // When & Then
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(30))
+                .andExpect(jsonPath("$.evictions").value(2))
+                .andExpect(jsonPath("$.hitRatio").value(0.75));
+    }
+
+    @Test
+    @DisplayName("🗃️🧹 API 응답 캐시 초기화")
+    void testClearCache() throws Exception {
+        mockMvc.perform(delete("/api/cache"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("API 응답 캐시를 비웠습니다."));
+    }
+
+    @Test
+    @DisplayName("🗃️⚔️ 캐시 사용/미사용 비교 - 반복 조회 처리량과 캐시 통계")
+    void testCompareApiCache() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.getCacheStats()).thenReturn(new CacheStats(20, 10, 0, 0, 10));
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-cache")
+                        .param("count", "10")
+                        .param("rounds", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 호출 - 캐시 미사용"))
+                .andExpect(jsonPath("$[0].taskCount").value(3))
+                .andExpect(jsonPath("$[1].metrics.cache.hits").value(20));
+    }
+
+    @Test
+    @DisplayName("🔗 동시 호출 병합 비교 - 같은 id 버스트에서 절약된 호출 수 보고")
+    void testCompareApiCoalescing() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callBurstWithVirtualThread(anyInt(), anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.getCoalescingStats())
+                .thenReturn(new SingleFlightStats(0, 0, 0))
+                .thenReturn(new SingleFlightStats(0, 0, 0))
+                .thenReturn(new SingleFlightStats(50, 5, 45));
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-coalescing")
+                        .param("count", "5")
+                        .param("duplicates", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].scenarioName").value("API 버스트 - 호출 병합"))
+                .andExpect(jsonPath("$[1].metrics.coalescing.saved").value(45))
+                .andExpect(jsonPath("$[1].metrics.coalescing.executions").value(5));
+    }
+
+    @Test
+    @DisplayName("📦 배칭 비교 - 개별 요청 vs 다건 조회 배치의 처리량과 평균 배치 크기")
+    void testCompareApiBatching() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.getBatchStats(any(ApiCallOptions.class)))
+                .thenReturn(new BatchStats(0, 0, 0))
+                .thenReturn(new BatchStats(10, 200, 0));
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-batching")
+                        .param("count", "200")
+                        .param("batchSize", "20")
+                        .param("lingerMs", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 호출 - 개별 요청"))
+                .andExpect(jsonPath("$[1].metrics.batching.batches").value(10))
+                .andExpect(jsonPath("$[1].metrics.batching.avgBatchSize").value(20.0));
+    }
+
+    @Test
+    @DisplayName("🪃 헤지 비교 - 헤지 없음 vs 헤지 요청의 꼬리 지연과 헤지 비율")
+    void testCompareApiHedging() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.getHedgeStats())
+                .thenReturn(new HedgeStats(0, 0, 0, 0))
+                .thenReturn(new HedgeStats(0, 0, 0, 0))
+                .thenReturn(new HedgeStats(0, 0, 0, 0))
+                .thenReturn(new HedgeStats(200, 10, 6, 0));
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-hedging")
+                        .param("count", "200")
+                        .param("timeoutMs", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 호출 - 헤지 없음"))
+                .andExpect(jsonPath("$[1].metrics.hedging.hedged").value(10))
+                .andExpect(jsonPath("$[1].metrics.hedging.hedgeRate").value(0.05))
+                .andExpect(jsonPath("$[1].metrics.p99ImprovementMs").exists());
+    }
+
+    @Test
+    @DisplayName("🛡️ 회복 탄력성 비교 - 보호 없음 vs 재시도 + 회로 차단의 goodput과 차단 통계")
+    void testCompareApiResilience() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        ResilienceStats initial = new ResilienceStats(0, 0, new RetryStats(0, 0, 0),
+                new CircuitBreakerStats(CircuitBreaker.State.CLOSED, 0.0, 0, 0, 0, 0));
+        ResilienceStats afterResilient = new ResilienceStats(120, 40, new RetryStats(200, 30, 5),
+                new CircuitBreakerStats(CircuitBreaker.State.OPEN, 0.6, 120, 40, 90, 1));
+        when(apiCallService.getResilienceStats())
+                .thenReturn(initial)
+                .thenReturn(initial)
+                .thenReturn(initial)
+                .thenReturn(afterResilient);
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-resilience")
+                        .param("count", "200"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 호출 - 보호 없음"))
+                .andExpect(jsonPath("$[1].goodputPerSec").exists())
+                .andExpect(jsonPath("$[1].metrics.resilience.retry.retries").value(30))
+                .andExpect(jsonPath("$[1].metrics.resilience.circuitBreaker.state").value("OPEN"))
+                .andExpect(jsonPath("$[1].metrics.resilience.circuitBreaker.rejected").value(90));
+    }
+
+    @Test
+    @DisplayName("🚦 제한 비교 - 제한 없는 팬아웃 vs 벌크헤드 + 속도 제한의 대기 시간")
+    void testCompareApiLimits() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        when(apiCallService.getLimitStats(any(ApiCallOptions.class)))
+                .thenReturn(new OutboundLimitStats(
+                        new BulkheadStats("posts-api", 50, 0, 0, 0, 0),
+                        new RateLimiterStats(500, 50, 0, 0, 0)))
+                .thenReturn(new OutboundLimitStats(
+                        new BulkheadStats("posts-api", 50, 1000, 800, 4000, 50),
+                        new RateLimiterStats(500, 50, 1000, 950, 900_000)));
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-limits")
+                        .param("count", "1000")
+                        .param("maxConcurrency", "50")
+                        .param("ratePerSecond", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 팬아웃 - 제한 없음"))
+                .andExpect(jsonPath("$[1].metrics.limits.bulkhead.maxInFlight").value(50))
+                .andExpect(jsonPath("$[1].metrics.limits.bulkhead.avgWaitMs").value(4.0))
+                .andExpect(jsonPath("$[1].metrics.limits.rateLimiter.delayed").value(950));
+    }
+
+    @Test
+    @DisplayName("🔀 프로토콜 비교 - HTTP/1.1 연결 풀 vs h2c 다중화의 업스트림 연결 수")
+    void testCompareApiProtocols() throws Exception {
+        // Given
+        List<ExecutionResult<ApiResponse>> mockResults = Arrays.asList(mockExecutionResult);
+        when(apiCallService.callMultipleApisWithVirtualThread(anyInt(), any(ApiCallOptions.class))).thenReturn(mockResults);
+        StubTrafficStats trafficStats = new StubTrafficStats();
+        trafficStats.setRequests(2000);
+        trafficStats.setConnections(2);
+        trafficStats.setMaxInFlight(200);
+        when(apiCallService.getUpstreamTrafficStats()).thenReturn(trafficStats);
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-protocols")
+                        .param("count", "2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ApiBackend.values().length * 2))
+                .andExpect(jsonPath("$[0].scenarioName").value("API 프로토콜 비교 - WEBCLIENT / HTTP_1_1"))
+                .andExpect(jsonPath("$[1].scenarioName").value("API 프로토콜 비교 - WEBCLIENT / H2C"))
+                .andExpect(jsonPath("$[1].metrics.upstream.connections").value(2))
+                .andExpect(jsonPath("$[1].metrics.upstream.maxInFlight").value(200));
+    }
+
+    @Test
+    @DisplayName("🌊 대용량 목록 디코딩 비교 - 전체 목록 vs Flux vs Jackson 스트리밍의 힙 최대치")
+    void testCompareListDecode() throws Exception {
+        // Given
+        PostListSummary summary = new PostListSummary();
+        summary.setCount(100000);
+        summary.setPeakHeapUsedMb(48);
+        ExecutionResult<PostListSummary> listResult = new ExecutionResult<>();
+        listResult.setTaskName("Post List");
+        listResult.setExecutionTimeMs(500L);
+        listResult.setSuccess(true);
+        listResult.setResult(summary);
+        when(apiCallService.fetchPostList(anyInt(), any(ListDecodeMode.class))).thenReturn(listResult);
+
+        // When & Then
+        mockMvc.perform(get("/api/compare-list-decode")
+                        .param("limit", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ListDecodeMode.values().length))
+                .andExpect(jsonPath("$[0].scenarioName").value("대용량 목록 디코딩 - BUFFERED_LIST"))
+                .andExpect(jsonPath("$[2].metrics.items").value(100000))
+                .andExpect(jsonPath("$[2].metrics.peakHeapUsedMb").value(48));
+    }
+}
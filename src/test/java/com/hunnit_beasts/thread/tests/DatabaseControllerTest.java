@@ -2,10 +2,35 @@ package com.hunnit_beasts.thread.tests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hunnit_beasts.thread.controller.DatabaseController;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
+import com.hunnit_beasts.thread.model.ExportFormat;
+import com.hunnit_beasts.thread.model.ExportTable;
+import com.hunnit_beasts.thread.model.Product;
+import com.hunnit_beasts.thread.model.SeedMode;
 import com.hunnit_beasts.thread.model.User;
+import com.hunnit_beasts.thread.model.UserLookupField;
+import com.hunnit_beasts.thread.model.UserLookupMode;
+import com.hunnit_beasts.thread.model.UserReadMode;
+import com.hunnit_beasts.thread.model.UserSummary;
+import com.hunnit_beasts.thread.repository.ProductRepository;
+import com.hunnit_beasts.thread.service.DataExportService;
+import com.hunnit_beasts.thread.service.DataSeedService;
 import com.hunnit_beasts.thread.service.DatabaseService;
+import com.hunnit_beasts.thread.service.UserLookupService;
+import com.hunnit_beasts.thread.util.BatchStats;
+import com.hunnit_beasts.thread.util.BulkheadStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
+import com.hunnit_beasts.thread.util.ConnectionPoolStats;
+import com.hunnit_beasts.thread.util.DbIoStats;
+import com.hunnit_beasts.thread.util.CacheStats;
+import com.hunnit_beasts.thread.util.DbLatencyStats;
+import com.hunnit_beasts.thread.util.EntityCacheStats;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.ExportStats;
+import com.hunnit_beasts.thread.util.LookupStats;
+import com.hunnit_beasts.thread.util.ReadCostStats;
+import com.hunnit_beasts.thread.util.SeedResult;
+import com.hunnit_beasts.thread.util.WriteBehindStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,15 +39,32 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,9 +80,24 @@ class DatabaseControllerTest {
     @MockitoBean
     private DatabaseService databaseService;
 
+    @MockitoBean
+    private DataSeedService dataSeedService;
+
+    @MockitoBean
+    private DataExportService dataExportService;
+
+    @MockitoBean
+    private UserLookupService userLookupService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
     private User mockUser;
     private ExecutionResult<User> mockExecutionResult;
     private ComparisonResult<User> mockComparisonResult;
@@ -66,6 +123,8 @@ class DatabaseControllerTest {
         mockComparisonResult.setVirtualThreadTotalTimeMs(800L);
         mockComparisonResult.setPlatformThreadTotalTimeMs(1500L);
         mockComparisonResult.calculateSpeedup();
+
+        when(databaseService.getPoolStats()).thenReturn(new ConnectionPoolStats());
     }
 
     @Test
@@ -100,7 +159,7 @@ class DatabaseControllerTest {
     void testBatchGetUsers() throws Exception {
         // Given
         List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
-        when(databaseService.batchGetUsersWithVirtualThread(anyInt())).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithVirtualThread(anyInt(), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/database/batch")
@@ -116,7 +175,7 @@ class DatabaseControllerTest {
     void testBatchGetUsersWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
-        when(databaseService.batchGetUsersWithVirtualThread(10)).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithVirtualThread(eq(10), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/database/batch"))
@@ -129,8 +188,11 @@ class DatabaseControllerTest {
     void testCompareDbQueries() throws Exception {
         // Given
         List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
-        when(databaseService.batchGetUsersWithVirtualThread(anyInt())).thenReturn(mockResults);
-        when(databaseService.batchGetUsersWithPlatformThread(anyInt())).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithVirtualThread(anyInt(), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithPlatformThread(anyInt(), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.getDbLatencyStats())
+                .thenReturn(new DbLatencyStats(0, 0))
+                .thenReturn(new DbLatencyStats(60, 30000));
 
         // When & Then
         mockMvc.perform(get("/database/compare")
@@ -139,7 +201,9 @@ class DatabaseControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.scenarioName").value("데이터베이스 쿼리 비교"))
                 .andExpect(jsonPath("$.taskCount").value(30))
-                .andExpect(jsonPath("$.speedupFactor").exists());
+                .andExpect(jsonPath("$.speedupFactor").exists())
+                .andExpect(jsonPath("$.metrics.dbLatency.injections").value(60))
+                .andExpect(jsonPath("$.metrics.dbLatency.avgDelayMs").value(500.0));
     }
 
     @Test
@@ -147,8 +211,9 @@ class DatabaseControllerTest {
     void testCompareDbQueriesWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
-        when(databaseService.batchGetUsersWithVirtualThread(50)).thenReturn(mockResults);
-        when(databaseService.batchGetUsersWithPlatformThread(50)).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithVirtualThread(eq(50), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithPlatformThread(eq(50), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.getDbLatencyStats()).thenReturn(new DbLatencyStats(0, 0));
 
         // When & Then
         mockMvc.perform(get("/database/compare"))
@@ -167,4 +232,355 @@ class DatabaseControllerTest {
         mockMvc.perform(get("/database/single/999"))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("🚪 DB 입장 제어 비교 - 풀 크기만큼만 동시 쿼리하고 커넥션 풀 대기 지표 보고")
+    void testCompareDbQueriesWithAdmission() throws Exception {
+        // Given
+        List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
+        when(databaseService.batchGetUsersWithVirtualThread(anyInt(), argThat(DbQueryOptions::isAdmission))).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithPlatformThread(anyInt(), argThat(DbQueryOptions::isAdmission))).thenReturn(mockResults);
+        when(databaseService.getDbLatencyStats()).thenReturn(new DbLatencyStats(0, 0));
+        when(databaseService.getPoolStats())
+                .thenReturn(new ConnectionPoolStats(20, 0, 20, 0, 0, 0, 0, 0, 0))
+                .thenReturn(new ConnectionPoolStats(20, 0, 20, 3, 200, 4000, 60, 100000, 0));
+        when(databaseService.getAdmissionStats(any(DbQueryOptions.class)))
+                .thenReturn(new BulkheadStats("db", 20, 0, 0, 0, 0))
+                .thenReturn(new BulkheadStats("db", 20, 400, 360, 90000, 20));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare")
+                        .param("count", "200")
+                        .param("admission", "true")
+                        .param("poolSize", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metrics.virtualThreadPool.acquisitions").value(200))
+                .andExpect(jsonPath("$.metrics.virtualThreadPool.avgAcquireMs").value(20.0))
+                .andExpect(jsonPath("$.metrics.virtualThreadPool.maxPendingThreads").value(3))
+                .andExpect(jsonPath("$.metrics.admission.maxConcurrency").value(20))
+                .andExpect(jsonPath("$.metrics.admission.maxInFlight").value(20));
+    }
+
+    @Test
+    @DisplayName("🌱 대량 데이터 적재 - JDBC 배치 INSERT 처리량(rows/s) 보고")
+    void testSeedData() throws Exception {
+        // Given
+        when(dataSeedService.seed(eq(SeedMode.JPA_BATCH), anyLong(), anyLong(), anyInt(), anyBoolean()))
+                .thenReturn(new SeedResult("JPA_BATCH", 1_000_000, 1_000_000, 1, 20_000));
+
+        // When & Then
+        mockMvc.perform(post("/database/seed")
+                        .param("users", "1000000")
+                        .param("products", "1000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mode").value("JPA_BATCH"))
+                .andExpect(jsonPath("$.users").value(1000000))
+                .andExpect(jsonPath("$.rowsPerSec").value(100000.0));
+    }
+
+    @Test
+    @DisplayName("🏗️ 대량 초기화 - 행 수/병렬도를 지정하면 네이티브 적재 후 처리량 포함 메시지 반환")
+    void testInitializeDataWithRows() throws Exception {
+        // Given
+        when(dataSeedService.seed(SeedMode.NATIVE, 10_000_000L, 10_000_000L, 8, true))
+                .thenReturn(new SeedResult("NATIVE", 10_000_000, 10_000_000, 8, 10_000));
+
+        // When & Then
+        mockMvc.perform(post("/database/init")
+                        .param("rows", "10000000")
+                        .param("parallelism", "8"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("테스트 데이터가 성공적으로 초기화되었습니다.")))
+                .andExpect(content().string(containsString("2000000 rows/s")));
+    }
+
+    @Test
+    @DisplayName("🧺 조회 방식 비교 - 단건 쿼리와 청크 IN 쿼리를 두 실행기에서 실행")
+    void testCompareQueryModes() throws Exception {
+        // Given
+        when(databaseService.getDbLatencyStats()).thenReturn(new DbLatencyStats());
+        when(databaseService.getUserBatchStats(any(DbQueryOptions.class)))
+                .thenReturn(new BatchStats(0, 0, 0), new BatchStats(4, 200, 0),
+                        new BatchStats(4, 200, 0), new BatchStats(8, 400, 0));
+        when(databaseService.batchGetUsersWithVirtualThread(eq(200), any(DbQueryOptions.class)))
+                .thenReturn(List.of(mockExecutionResult));
+        when(databaseService.batchGetUsersWithPlatformThread(eq(200), any(DbQueryOptions.class)))
+                .thenReturn(List.of(mockExecutionResult));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare-query-modes")
+                        .param("count", "200")
+                        .param("chunkSize", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].scenarioName").value("단건 쿼리 - 가상 스레드"))
+                .andExpect(jsonPath("$[2].scenarioName").value("청크 IN 쿼리 - 가상 스레드"))
+                .andExpect(jsonPath("$[2].metrics.batching.batches").value(4))
+                .andExpect(jsonPath("$[2].metrics.batching.avgBatchSize").value(50.0))
+                .andExpect(jsonPath("$[0].metrics.batching").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("🗃️ 엔티티 캐시 비교 - 반복 조회의 적중률 보고")
+    void testCompareDbQueriesWithEntityCache() throws Exception {
+        // Given
+        List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
+        when(databaseService.batchGetUsersWithVirtualThread(anyInt(), argThat(DbQueryOptions::isEntityCache))).thenReturn(mockResults);
+        when(databaseService.batchGetUsersWithPlatformThread(anyInt(), argThat(DbQueryOptions::isEntityCache))).thenReturn(mockResults);
+        when(databaseService.getDbLatencyStats()).thenReturn(new DbLatencyStats(0, 0));
+        when(databaseService.getEntityCacheStats())
+                .thenReturn(new EntityCacheStats(new CacheStats(), new CacheStats(), 0))
+                .thenReturn(new EntityCacheStats(new CacheStats(50, 50, 0, 0, 50), new CacheStats(), 0));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare")
+                        .param("count", "50")
+                        .param("entityCache", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metrics.entityCache.users.hits").value(50))
+                .andExpect(jsonPath("$.metrics.entityCache.users.hitRatio").value(0.5))
+                .andExpect(jsonPath("$.metrics.entityCache.users.size").value(50));
+    }
+
+    @Test
+    @DisplayName("⚛️ R2DBC 리액티브 비교 - 가상/플랫폼 JPA 실행 옆에 리액티브 실행 통계와 스레드 수 보고")
+    void testCompareDbQueriesWithReactive() throws Exception {
+        // Given
+        ExecutionResult<User> reactiveResult = new ExecutionResult<>();
+        reactiveResult.setTaskName("사용자 조회 (리액티브) - 1");
+        reactiveResult.setThreadName("parallel-1");
+        reactiveResult.setThreadId(31L);
+        reactiveResult.setExecutionTimeMs(500L);
+        reactiveResult.setSuccess(true);
+        reactiveResult.setResult(mockUser);
+
+        // 가상 스레드는 이름이 비어 있으므로 스레드 id로 구분해야 함
+        List<ExecutionResult<User>> virtualResults = List.of(unnamedVirtualResult(101L), unnamedVirtualResult(102L));
+        List<ExecutionResult<User>> mockResults = Arrays.asList(mockExecutionResult);
+        when(databaseService.batchGetUsersWithVirtualThread(anyInt(), any(DbQueryOptions.class))).thenReturn(virtualResults);
+        when(databaseService.batchGetUsersWithPlatformThread(anyInt(), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.batchGetUsersReactive(eq(50), argThat(DbQueryOptions::isReactive)))
+                .thenReturn(List.of(reactiveResult, reactiveResult));
+        when(databaseService.getDbLatencyStats()).thenReturn(new DbLatencyStats(0, 0));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare")
+                        .param("count", "50")
+                        .param("reactive", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metrics.virtualThreadUsage.distinctThreads").value(2))
+                .andExpect(jsonPath("$.metrics.platformThreadUsage.peakPlatformThreads").isNumber())
+                .andExpect(jsonPath("$.metrics.reactive.scenarioName").value("R2DBC 리액티브 조회"))
+                .andExpect(jsonPath("$.metrics.reactive.successCount").value(2))
+                .andExpect(jsonPath("$.metrics.reactive.p50LatencyMs").value(500))
+                .andExpect(jsonPath("$.metrics.reactive.metrics.threadUsage.distinctThreads").value(1));
+    }
+
+    private ExecutionResult<User> unnamedVirtualResult(long threadId) {
+        ExecutionResult<User> result = new ExecutionResult<>();
+        result.setTaskName("사용자 조회 (가상) - " + threadId);
+        result.setThreadName("");
+        result.setThreadId(threadId);
+        result.setVirtualThread(true);
+        result.setExecutionTimeMs(500L);
+        result.setSuccess(true);
+        result.setResult(mockUser);
+        return result;
+    }
+
+    @Test
+    @DisplayName("🪶 읽기 방식 비교 - 엔티티/읽기 전용 엔티티/프로젝션의 행당 CPU·할당량 보고")
+    void testCompareReadModes() throws Exception {
+        // Given
+        when(databaseService.readUsers(any(UserReadMode.class), eq(1000), eq(1000)))
+                .thenAnswer(invocation -> new ReadCostStats(invocation.getArgument(0).toString(), 1000, 1000, 10, 0, 0));
+        when(databaseService.readUsers(UserReadMode.ENTITY, 100000, 1000))
+                .thenReturn(new ReadCostStats("ENTITY", 100000, 1000, 900, 800_000_000L, 120_000_000L));
+        when(databaseService.readUsers(UserReadMode.ENTITY_READ_ONLY, 100000, 1000))
+                .thenReturn(new ReadCostStats("ENTITY_READ_ONLY", 100000, 1000, 700, 600_000_000L, 90_000_000L));
+        when(databaseService.readUsers(UserReadMode.PROJECTION, 100000, 1000))
+                .thenReturn(new ReadCostStats("PROJECTION", 100000, 1000, 400, 300_000_000L, 40_000_000L));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare-read-modes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].mode").value("ENTITY"))
+                .andExpect(jsonPath("$[0].cpuMicrosPerRow").value(8.0))
+                .andExpect(jsonPath("$[2].mode").value("PROJECTION"))
+                .andExpect(jsonPath("$[2].allocatedBytesPerRow").value(400.0));
+    }
+
+    @Test
+    @DisplayName("📤 테이블 내보내기 - CSV를 응답 스트림으로 바로 기록")
+    void testExportTableAsCsv() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(3);
+            out.write("id,username,email\n1,testUser,test@example.com\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dataExportService).export(eq(ExportTable.USERS), eq(ExportFormat.CSV), eq(5000), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/database/export")
+                        .param("table", "USERS")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id,username,email\n1,testUser,test@example.com\n"));
+    }
+
+    @Test
+    @DisplayName("🧾 테이블 내보내기 - NDJSON 각 줄이 '{'로 시작하는 JSON, CSV는 CR이 든 값을 따옴표로 감쌈")
+    void testExportWritesValidNdjsonAndQuotedCsv() throws Exception {
+        // Given - 컨트롤러 테스트용 목과 별개로 실제 서비스 생성, 여러 페이지에 걸치도록 pageSize 2
+        productRepository.saveAll(List.of(
+                new Product("내보내기검사-1", 100.0),
+                new Product("내보내기검사-2", 200.0),
+                new Product("내보내기검사-3\r줄", 300.0)));
+        DataExportService service = new DataExportService(jdbcTemplate, objectMapper);
+
+        try {
+            // When
+            ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+            service.export(ExportTable.PRODUCTS, ExportFormat.NDJSON, 2, ndjson);
+            ByteArrayOutputStream csv = new ByteArrayOutputStream();
+            service.export(ExportTable.PRODUCTS, ExportFormat.CSV, 2, csv);
+
+            // Then
+            List<String> lines = ndjson.toString(StandardCharsets.UTF_8).lines().toList();
+            for (String line : lines) {
+                assertTrue(line.startsWith("{"), "NDJSON 줄: [" + line + "]");
+                objectMapper.readTree(line);
+            }
+            assertEquals(3, lines.stream().filter(line -> line.contains("내보내기검사-")).count());
+            assertTrue(csv.toString(StandardCharsets.UTF_8).contains(",\"내보내기검사-3\r줄\","));
+        } finally {
+            jdbcTemplate.update("DELETE FROM product WHERE name LIKE '내보내기검사-%'");
+        }
+    }
+
+    @Test
+    @DisplayName("🚫 테이블 내보내기 - pageSize가 1 미만이면 400")
+    void testExportTableRejectsNonPositivePageSize() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/database/export")
+                        .param("pageSize", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/database/export")
+                        .param("pageSize", "-1"))
+                .andExpect(status().isBadRequest());
+
+        verify(dataExportService, never()).export(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("📊 내보내기 통계 - 마지막 내보내기의 rows/s와 최대 힙 사용량")
+    void testExportStats() throws Exception {
+        // Given
+        when(dataExportService.getLastExportStats())
+                .thenReturn(new ExportStats("USERS", "NDJSON", 10_000_000, 20_000, 96));
+
+        // When & Then
+        mockMvc.perform(get("/database/export/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(10000000))
+                .andExpect(jsonPath("$.rowsPerSec").value(500000.0))
+                .andExpect(jsonPath("$.peakHeapUsedMb").value(96));
+    }
+
+    @Test
+    @DisplayName("🧾 지연 쓰기 비교 - 행마다 커밋과 배치 커밋의 커밋 수/종단 지연 보고")
+    void testCompareWriteBehind() throws Exception {
+        // Given
+        List<ExecutionResult<User>> mockResults = List.of(mockExecutionResult, mockExecutionResult);
+        when(databaseService.batchInsertUsersWithVirtualThread(eq(2), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.getWriteBehindStats())
+                .thenReturn(new WriteBehindStats(new BatchStats(0, 0, 0), new BatchStats(0, 0, 0)))
+                .thenReturn(new WriteBehindStats(new BatchStats(0, 0, 0), new BatchStats(0, 0, 0)))
+                .thenReturn(new WriteBehindStats(new BatchStats(0, 0, 0), new BatchStats(0, 0, 0)))
+                .thenReturn(new WriteBehindStats(new BatchStats(1, 2, 0), new BatchStats(0, 0, 0)));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare-write-behind")
+                        .param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("사용자 저장 - 행마다 커밋"))
+                .andExpect(jsonPath("$[0].metrics.commits").value(2))
+                .andExpect(jsonPath("$[1].scenarioName").value("사용자 저장 - 지연 쓰기 배치 커밋"))
+                .andExpect(jsonPath("$[1].metrics.commits").value(1))
+                .andExpect(jsonPath("$[1].metrics.writeBehind.users.avgBatchSize").value(2.0));
+    }
+
+    @Test
+    @DisplayName("🔎 이메일 조회 - 인덱스 조회 방식으로 사용자 프로젝션 반환")
+    void testFindUsersByEmail() throws Exception {
+        // Given
+        when(userLookupService.lookup(UserLookupField.EMAIL, "test@example.com", UserLookupMode.INDEXED))
+                .thenReturn(List.of(new UserSummary(1L, "testUser", "test@example.com")));
+
+        // When & Then
+        mockMvc.perform(get("/database/users/by-email")
+                        .param("email", "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].username").value("testUser"));
+    }
+
+    @Test
+    @DisplayName("🗂️ 키 조회 방식 비교 - 적재 후 인덱스/스캔/해시 인덱스 조회의 처리량과 지연 보고")
+    void testCompareLookups() throws Exception {
+        // Given
+        when(dataSeedService.seed(SeedMode.NATIVE, 1_000_000L, 0L, 4, true))
+                .thenReturn(new SeedResult("NATIVE", 1_000_000, 0, 4, 2000));
+        when(userLookupService.compareLookups(UserLookupField.USERNAME, 1000, 10, 8)).thenReturn(List.of(
+                LookupStats.of("USERNAME", "INDEXED", new long[]{50_000, 70_000}, 2, 8, 100_000),
+                LookupStats.of("USERNAME", "UNINDEXED", new long[]{300_000_000}, 1, 8, 300_000_000),
+                LookupStats.of("USERNAME", "HASH_INDEX", new long[]{1_000, 3_000}, 2, 8, 4_000)));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare-lookups")
+                        .param("field", "USERNAME")
+                        .param("rows", "1000000")
+                        .param("lookups", "1000")
+                        .param("scanLookups", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].mode").value("INDEXED"))
+                .andExpect(jsonPath("$[0].p99LatencyUs").value(70))
+                .andExpect(jsonPath("$[1].totalTimeMs").value(300))
+                .andExpect(jsonPath("$[2].throughputPerSec").value(500000.0));
+    }
+
+    @Test
+    @DisplayName("💽 디스크 I/O 비교 - 파일 DB에서 저장/무작위 조회의 처리량과 파일 I/O 증가분 보고")
+    void testCompareDiskIo() throws Exception {
+        // Given
+        List<ExecutionResult<User>> mockResults = List.of(mockExecutionResult, mockExecutionResult);
+        when(databaseService.batchInsertUsersWithVirtualThread(eq(2), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.batchInsertUsersWithPlatformThread(eq(2), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(databaseService.randomGetUsers(eq(2), anyBoolean())).thenReturn(mockResults);
+        when(databaseService.getDbIoStats())
+                .thenReturn(new DbIoStats(true, 1 << 20, 4, 0, 10, 40_960, 5, 20_480))
+                .thenReturn(new DbIoStats(true, 2 << 20, 4, 0, 10, 40_960, 9, 61_440));
+
+        // When & Then
+        mockMvc.perform(get("/database/compare-disk-io")
+                        .param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].scenarioName").value("사용자 저장 - 가상 스레드"))
+                .andExpect(jsonPath("$[0].metrics.dbIo.fileBacked").value(true))
+                .andExpect(jsonPath("$[0].metrics.dbIo.fileWrites").value(4))
+                .andExpect(jsonPath("$[0].metrics.dbIo.fileWriteBytes").value(40960))
+                .andExpect(jsonPath("$[3].scenarioName").value("무작위 사용자 조회 - 플랫폼 스레드"));
+    }
+}
@@ -1,24 +1,48 @@
 package com.hunnit_beasts.thread.tests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hunnit_beasts.thread.model.FileWriteOptions;
 import com.hunnit_beasts.thread.service.FileService;
+import com.hunnit_beasts.thread.util.BufferPoolStats;
 import com.hunnit_beasts.thread.util.ComparisonResult;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -38,6 +62,12 @@ class FileControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AsyncTaskExecutor virtualThreadExecutor;
+
+    @Autowired
+    private ThreadPoolTaskExecutor platformThreadExecutor;
+
     private ExecutionResult<String> mockExecutionResult;
     private ComparisonResult<String> mockComparisonResult;
 
@@ -105,7 +135,7 @@ class FileControllerTest {
     void testBatchProcessFiles() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockExecutionResult);
-        when(fileService.batchProcessFilesWithVirtualThread(anyInt(), anyInt())).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithVirtualThread(anyInt(), anyInt(), any(FileWriteOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/files/batch")
@@ -122,7 +152,7 @@ class FileControllerTest {
     void testBatchProcessFilesWithDefaultParams() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockExecutionResult);
-        when(fileService.batchProcessFilesWithVirtualThread(10, 100)).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithVirtualThread(eq(10), eq(100), any(FileWriteOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/files/batch"))
@@ -135,8 +165,8 @@ class FileControllerTest {
     void testCompareFileProcessing() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockExecutionResult);
-        when(fileService.batchProcessFilesWithVirtualThread(anyInt(), anyInt())).thenReturn(mockResults);
-        when(fileService.batchProcessFilesWithPlatformThread(anyInt(), anyInt())).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithVirtualThread(anyInt(), anyInt(), any(FileWriteOptions.class))).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithPlatformThread(anyInt(), anyInt(), any(FileWriteOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/files/compare")
@@ -154,8 +184,8 @@ class FileControllerTest {
     void testCompareFileProcessingWithDefaultParams() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockExecutionResult);
-        when(fileService.batchProcessFilesWithVirtualThread(20, 100)).thenReturn(mockResults);
-        when(fileService.batchProcessFilesWithPlatformThread(20, 100)).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithVirtualThread(eq(20), eq(100), any(FileWriteOptions.class))).thenReturn(mockResults);
+        when(fileService.batchProcessFilesWithPlatformThread(eq(20), eq(100), any(FileWriteOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/files/compare"))
@@ -163,4 +193,80 @@ class FileControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.taskCount").value(20));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("🧱 파일 쓰기 방식 비교 - 힙 byte[]와 FileChannel 다이렉트 버퍼 청크의 최대 힙/처리량 보고")
+    void testCompareWriteModes() throws Exception {
+        // Given
+        List<ExecutionResult<String>> mockResults = Arrays.asList(mockExecutionResult, mockExecutionResult);
+        when(fileService.batchProcessFilesWithVirtualThread(eq(2), eq(1024), any(FileWriteOptions.class))).thenReturn(mockResults);
+        when(fileService.getBufferPoolStats(any(FileWriteOptions.class)))
+                .thenReturn(new BufferPoolStats(128, 0, 0, 0))
+                .thenReturn(new BufferPoolStats(128, 0, 0, 0))
+                .thenReturn(new BufferPoolStats(128, 2, 2, 0));
+
+        // When & Then
+        mockMvc.perform(get("/files/compare-write-modes")
+                        .param("count", "2")
+                        .param("sizeKb", "1024")
+                        .param("chunkKb", "128"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].scenarioName").value("파일 쓰기 - 힙 byte[] 한 번에"))
+                .andExpect(jsonPath("$[0].metrics.peakHeapMb").exists())
+                .andExpect(jsonPath("$[0].metrics.mbPerSec").exists())
+                .andExpect(jsonPath("$[1].scenarioName").value("파일 쓰기 - FileChannel + 다이렉트 버퍼 청크"))
+                .andExpect(jsonPath("$[1].metrics.bufferPool.acquisitions").value(2))
+                .andExpect(jsonPath("$[1].metrics.bufferPool.bufferSizeKb").value(128));
+        // 방식마다 측정 후 파일 삭제
+        verify(fileService, times(2)).deleteFiles(mockResults);
+    }
+
+    @Test
+    @DisplayName("🧹 파일 쓰기 방식 비교 - 측정 중 예외가 나도 앞서 기록한 파일은 삭제하고 동시 HEAP 쓰기 수를 전달")
+    void testCompareWriteModesCleansUpOnFailure() {
+        // Given - HEAP은 성공, CHANNEL 측정 중 예외
+        List<ExecutionResult<String>> heapResults = List.of(mockExecutionResult);
+        when(fileService.getBufferPoolStats(any(FileWriteOptions.class))).thenReturn(new BufferPoolStats(128, 0, 0, 0));
+        when(fileService.batchProcessFilesWithVirtualThread(eq(2), eq(1024),
+                argThat((FileWriteOptions options) -> options != null && options.getMaxHeapWrites() == 2)))
+                .thenReturn(heapResults)
+                .thenThrow(new IllegalStateException("디스크 공간 부족"));
+
+        // When & Then
+        assertThrows(ServletException.class, () -> mockMvc.perform(get("/files/compare-write-modes")
+                .param("count", "2")
+                .param("sizeKb", "1024")
+                .param("maxHeapWrites", "2")));
+        verify(fileService).deleteFiles(heapResults);
+        verify(fileService).deleteFiles(List.of());
+    }
+
+    @Test
+    @DisplayName("🧩 파일 내용 생성 - 정확한 크기, 블록 경계에서도 온전한 UTF-8, 큰 크기는 캐시하지 않음")
+    void testGeneratedFileContent() throws Exception {
+        // Given - 컨트롤러 테스트용 목과 별개로 실제 서비스 생성
+        FileService service = new FileService(virtualThreadExecutor, platformThreadExecutor);
+        Map<?, ?> contentCache = (Map<?, ?>) ReflectionTestUtils.getField(service, "contentCache");
+        int maxCachedSizeKb = (int) ReflectionTestUtils.getField(FileService.class, "MAX_CACHED_SIZE_KB");
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        for (int sizeKb : new int[]{0, 1, 37, maxCachedSizeKb + 1}) {
+            Path path = Paths.get(service.writeFile("content-check-" + sizeKb + ".txt", sizeKb));
+            try {
+                // When
+                byte[] content = Files.readAllBytes(path);
+
+                // Then - 1KB 블록 단위로 정확히 sizeKb KB, 잘린 한글 없이 디코딩
+                assertEquals(sizeKb * 1024L, content.length, "크기: " + sizeKb + "KB");
+                assertDoesNotThrow(() -> decoder.decode(ByteBuffer.wrap(content)), "크기: " + sizeKb + "KB");
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        }
+        assertTrue(contentCache.containsKey(37));
+        assertFalse(contentCache.containsKey(maxCachedSizeKb + 1));
+    }
+}
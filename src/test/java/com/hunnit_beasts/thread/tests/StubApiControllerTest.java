@@ -0,0 +1,150 @@
+package com.hunnit_beasts.thread.tests;
+
+import com.hunnit_beasts.thread.model.ApiResponse;
+import com.hunnit_beasts.thread.model.StubSettings;
+import com.hunnit_beasts.thread.model.StubTrafficStats;
+import com.hunnit_beasts.thread.service.StubApiService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("🧪 로컬 스텁 API 컨트롤러 테스트")
+class StubApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StubApiService stubApiService;
+
+    private ApiResponse mockPost1;
+    private ApiResponse mockPost2;
+
+    @BeforeEach
+    void setUp() {
+        // Mock 객체 설정
+        mockPost1 = new ApiResponse();
+        mockPost1.setId(1L);
+        mockPost1.setUserId(1);
+        mockPost1.setTitle("스텁 게시글 1");
+
+        mockPost2 = new ApiResponse();
+        mockPost2.setId(2L);
+        mockPost2.setUserId(1);
+        mockPost2.setTitle("스텁 게시글 2");
+    }
+
+    @Test
+    @DisplayName("📄 단건 조회 - /stub/posts/{id}")
+    void testGetPost() throws Exception {
+        // Given
+        when(stubApiService.getPost(anyLong())).thenReturn(mockPost1);
+
+        // When & Then
+        mockMvc.perform(get("/stub/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.title").value("스텁 게시글 1"));
+    }
+
+    @Test
+    @DisplayName("📄📄 다건 조회 - /stub/posts?id=1&id=2 배치 요청")
+    void testGetPosts() throws Exception {
+        // Given
+        when(stubApiService.getPosts(List.of(1L, 2L))).thenReturn(Arrays.asList(mockPost1, mockPost2));
+
+        // When & Then
+        mockMvc.perform(get("/stub/posts")
+                        .param("id", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    @DisplayName("🌊 전체 목록 스트리밍 - /stub/posts?limit=2")
+    void testStreamPosts() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(stubApiService).writePosts(anyInt(), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/stub/posts")
+                        .param("limit", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    @DisplayName("📊 트래픽 통계 - /stub/stats 연결 수와 최대 동시 처리 수")
+    void testGetTrafficStats() throws Exception {
+        // Given
+        StubTrafficStats stats = new StubTrafficStats();
+        stats.setRequests(100);
+        stats.setConnections(1);
+        stats.setMaxInFlight(100);
+        stats.getProtocols().put("HTTP/2.0", 100L);
+        when(stubApiService.getTrafficStats()).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/stub/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.connections").value(1))
+                .andExpect(jsonPath("$.maxInFlight").value(100))
+                .andExpect(jsonPath("$.protocols['HTTP/2.0']").value(100));
+    }
+
+    @Test
+    @DisplayName("🐢 지연 설정 변경 - PUT /stub/settings")
+    void testUpdateSettings() throws Exception {
+        // Given
+        StubSettings settings = new StubSettings();
+        settings.setBaseLatencyMs(20);
+        settings.setSlowRatio(0.05);
+        settings.setSlowLatencyMs(500);
+        when(stubApiService.updateSettings(any(StubSettings.class))).thenReturn(settings);
+
+        // When & Then
+        mockMvc.perform(put("/stub/settings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"baseLatencyMs\":20,\"slowRatio\":0.05,\"slowLatencyMs\":500}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.baseLatencyMs").value(20))
+                .andExpect(jsonPath("$.slowRatio").value(0.05));
+    }
+}
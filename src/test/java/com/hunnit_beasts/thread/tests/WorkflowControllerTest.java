@@ -1,9 +1,12 @@
 package com.hunnit_beasts.thread.tests;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hunnit_beasts.thread.model.ApiCallOptions;
+import com.hunnit_beasts.thread.model.DbQueryOptions;
 import com.hunnit_beasts.thread.service.WorkflowService;
 import com.hunnit_beasts.thread.util.ComparisonResult;
 import com.hunnit_beasts.thread.util.ExecutionResult;
+import com.hunnit_beasts.thread.util.TransactionStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +20,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -76,7 +81,7 @@ class WorkflowControllerTest {
     void testRunSimpleWorkflows() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt())).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/simple")
@@ -93,7 +98,7 @@ class WorkflowControllerTest {
     void testRunSimpleWorkflowsWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(5)).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(eq(5), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/simple"))
@@ -106,7 +111,7 @@ class WorkflowControllerTest {
     void testRunComplexWorkflows() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockComplexWorkflowResult);
-        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(anyInt())).thenReturn(mockResults);
+        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/complex")
@@ -123,7 +128,7 @@ class WorkflowControllerTest {
     void testRunComplexWorkflowsWithDefaultCount() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockComplexWorkflowResult);
-        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(3)).thenReturn(mockResults);
+        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(eq(3), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/complex"))
@@ -136,8 +141,8 @@ class WorkflowControllerTest {
     void testCompareSimpleWorkflows() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt())).thenReturn(mockResults);
-        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(anyInt())).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/compare")
@@ -155,8 +160,8 @@ class WorkflowControllerTest {
     void testCompareComplexWorkflows() throws Exception {
         // Given
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockComplexWorkflowResult);
-        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(anyInt())).thenReturn(mockResults);
-        when(workflowService.runMultipleComplexWorkflowsWithPlatformThread(anyInt())).thenReturn(mockResults);
+        when(workflowService.runMultipleComplexWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(workflowService.runMultipleComplexWorkflowsWithPlatformThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         ComparisonResult<String> complexComparisonResult = new ComparisonResult<>("복잡한 워크플로우 비교", 3);
         complexComparisonResult.setVirtualThreadResults(mockResults);
@@ -164,6 +169,10 @@ class WorkflowControllerTest {
         complexComparisonResult.setVirtualThreadTotalTimeMs(6000L);
         complexComparisonResult.setPlatformThreadTotalTimeMs(9000L);
         complexComparisonResult.calculateSpeedup();
+        // 워크플로우 6개(가상 3 + 플랫폼 3) 동안 커넥션 6번 획득, 커밋 6번
+        when(workflowService.getTransactionStats()).thenReturn(
+                new TransactionStats(100, 40, 0),
+                new TransactionStats(106, 46, 0));
 
         // When & Then
         mockMvc.perform(get("/workflow/compare")
@@ -173,7 +182,10 @@ class WorkflowControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.scenarioName").value("복잡한 워크플로우 비교"))
                 .andExpect(jsonPath("$.taskCount").value(3))
-                .andExpect(jsonPath("$.speedupFactor").exists());
+                .andExpect(jsonPath("$.speedupFactor").exists())
+                .andExpect(jsonPath("$.metrics.dbStep.workflows").value(6))
+                .andExpect(jsonPath("$.metrics.dbStep.connectionAcquisitions").value(6))
+                .andExpect(jsonPath("$.metrics.dbStep.commitsPerWorkflow").value(1.0));
     }
 
     @Test
@@ -181,8 +193,8 @@ class WorkflowControllerTest {
     void testCompareWorkflowsWithDefaultParams() throws Exception {
         // Given - 기본값: simple workflow, count=5
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(5)).thenReturn(mockResults);
-        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(5)).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(eq(5), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(eq(5), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/compare"))
@@ -197,8 +209,8 @@ class WorkflowControllerTest {
     void testCompareInvalidWorkflowType() throws Exception {
         // Given - invalid type, should default to simple
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt())).thenReturn(mockResults);
-        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(anyInt())).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithPlatformThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/compare")
@@ -215,7 +227,7 @@ class WorkflowControllerTest {
     void testWorkflowWithLargeCount() throws Exception {
         // Given - 대규모 워크플로우 테스트
         List<ExecutionResult<String>> mockResults = Arrays.asList(mockSimpleWorkflowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(50)).thenReturn(mockResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(eq(50), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(mockResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/simple")
@@ -235,7 +247,7 @@ class WorkflowControllerTest {
         slowResult.setResult("느린 워크플로우 완료");
 
         List<ExecutionResult<String>> slowResults = Arrays.asList(slowResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt())).thenReturn(slowResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(slowResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/simple")
@@ -256,7 +268,7 @@ class WorkflowControllerTest {
         failedResult.setErrorMessage("워크플로우 실행 중 오류 발생");
 
         List<ExecutionResult<String>> failedResults = Arrays.asList(failedResult);
-        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt())).thenReturn(failedResults);
+        when(workflowService.runMultipleSimpleWorkflowsWithVirtualThread(anyInt(), any(ApiCallOptions.class), any(DbQueryOptions.class))).thenReturn(failedResults);
 
         // When & Then
         mockMvc.perform(get("/workflow/simple")